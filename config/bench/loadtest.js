@@ -0,0 +1,45 @@
+// Load test for comparing platform and virtual request threads, run by config/bench/loadtest.sh.
+//
+// Ramps the arrival rate of authenticated reads up to MAX_RATE requests per second.
+// k6 adds virtual users only when responses slow down, so the peak of the "vus" metric
+// is the number of requests the application had in flight at the same time.
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MAX_RATE = Number(__ENV.MAX_RATE || 2000);
+const DURATION = __ENV.DURATION || '2m';
+
+export const options = {
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    scenarios: {
+        reads: {
+            executor: 'ramping-arrival-rate',
+            startRate: 50,
+            timeUnit: '1s',
+            preAllocatedVUs: 100,
+            maxVUs: Number(__ENV.MAX_VUS || 5000),
+            stages: [
+                { target: MAX_RATE, duration: DURATION },
+                { target: MAX_RATE, duration: '30s' },
+            ],
+        },
+    },
+};
+
+export function setup() {
+    const response = http.post(`${BASE_URL}/api/auth/login`, JSON.stringify({
+        username: __ENV.USERNAME || 'hexlet@example.com',
+        password: __ENV.PASSWORD || 'qwerty',
+    }), { headers: { 'Content-Type': 'application/json' } });
+    check(response, { 'logged in': (r) => r.status === 200 });
+    return { token: response.json('accessToken') };
+}
+
+export default function (data) {
+    const params = { headers: { Authorization: `Bearer ${data.token}` } };
+    const path = Math.random() < 0.8 ? '/api/tasks?limit=20' : '/api/task_statuses';
+    const response = http.get(`${BASE_URL}${path}`, params);
+    check(response, { 'status is 200': (r) => r.status === 200 });
+}
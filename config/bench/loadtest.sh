@@ -0,0 +1,58 @@
+#!/usr/bin/env sh
+# Compares request handling on platform threads and on virtual threads.
+#
+# Starts the application jar twice with the same fixed heap, once per mode, runs
+# config/bench/loadtest.js against each and prints p99 latency, peak concurrency
+# and error rate side by side. Requires k6, jq and a jar built with ./gradlew bootJar.
+#
+# Use the prod profile against a real PostgreSQL database: with the in-memory H2 of
+# the dev profile there is no network I/O to wait on, which is what virtual threads help with.
+#
+#   SPRING_PROFILES_ACTIVE=prod DB_HOST=... HEAP=512m MAX_RATE=2000 config/bench/loadtest.sh
+
+set -eu
+
+JAR=${JAR:-build/libs/app-0.0.1-SNAPSHOT.jar}
+HEAP=${HEAP:-512m}
+PORT=${PORT:-8080}
+OUT=${OUT:-build/reports/loadtest}
+
+mkdir -p "$OUT"
+
+for mode in platform virtual; do
+    virtual=false
+    if [ "$mode" = virtual ]; then
+        virtual=true
+    fi
+
+    java -Xms"$HEAP" -Xmx"$HEAP" -Dserver.port="$PORT" \
+        -Dspring.threads.virtual.enabled="$virtual" \
+        -jar "$JAR" > "$OUT/$mode.log" 2>&1 &
+    pid=$!
+    trap 'kill "$pid" 2>/dev/null || true' EXIT
+
+    # A public API path rather than /actuator/health, which the prod profile moves to a separate port
+    until curl -sf "http://localhost:$PORT/api/users" > /dev/null; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "Application failed to start, see $OUT/$mode.log" >&2
+            exit 1
+        fi
+        sleep 1
+    done
+
+    k6 run --quiet -e BASE_URL="http://localhost:$PORT" \
+        --summary-export "$OUT/$mode.json" config/bench/loadtest.js
+
+    kill "$pid"
+    wait "$pid" || true
+    trap - EXIT
+done
+
+printf '%-10s %12s %16s %12s\n' mode p99_ms max_concurrency error_rate
+for mode in platform virtual; do
+    jq -r --arg mode "$mode" '[$mode,
+        (.metrics.http_req_duration["p(99)"] | floor),
+        .metrics.vus.max,
+        .metrics.http_req_failed.value] | @tsv' "$OUT/$mode.json" \
+        | awk '{ printf "%-10s %12s %16s %12s\n", $1, $2, $3, $4 }'
+done
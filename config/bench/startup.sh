@@ -0,0 +1,75 @@
+#!/usr/bin/env sh
+# Measures time to first request and memory of the application in several launch modes.
+#
+# Each mode is started RUNS times with the default (dev) profile; a run takes the time
+# from launching the process until GET /api/users first answers and the resident set size
+# of the process at that moment. The medians are printed.
+#
+#   jar        java -jar on the fat jar
+#   extracted  the jar extracted with the Spring Boot tools jarmode, as in the Dockerfile
+#   cds        extracted, with a CDS archive recorded by a training run
+#   aot        cds with -Dspring.aot.enabled=true, only if the jar was built with -Paot=true
+#   native     the native executable, only if it was built with ./gradlew nativeCompile -Pnative=true
+#
+# Usually run through ./gradlew startupBenchmark [-Paot=true].
+
+set -eu
+
+JAR=${1:-build/libs/app-0.0.1-SNAPSHOT.jar}
+RUNS=${RUNS:-5}
+PORT=${PORT:-18080}
+WORK=${WORK:-build/reports/startup}
+NATIVE=${NATIVE:-build/native/nativeCompile/app}
+
+rm -rf "$WORK"
+mkdir -p "$WORK"
+
+java -Djarmode=tools -jar "$JAR" extract --destination "$WORK/application" > /dev/null
+APP="$WORK/application/$(basename "$JAR")"
+java -XX:ArchiveClassesAtExit="$WORK/application.jsa" -Dspring.context.exit=onRefresh \
+    -jar "$APP" > "$WORK/training.log" 2>&1
+
+measure() {
+    mode=$1
+    shift
+    i=1
+    while [ "$i" -le "$RUNS" ]; do
+        start=$(date +%s%3N)
+        "$@" --server.port="$PORT" > "$WORK/$mode-$i.log" 2>&1 &
+        pid=$!
+        until curl -sf "http://localhost:$PORT/api/users" > /dev/null; do
+            if ! kill -0 "$pid" 2>/dev/null; then
+                echo "$mode failed to start, see $WORK/$mode-$i.log" >&2
+                exit 1
+            fi
+            sleep 0.05
+        done
+        end=$(date +%s%3N)
+        ps -o rss= -p "$pid" >> "$WORK/$mode.rss"
+        kill "$pid"
+        wait "$pid" || true
+        echo $((end - start)) >> "$WORK/$mode.times"
+        i=$((i + 1))
+    done
+    printf '%-10s %10s %10s\n' "$mode" "$(median "$WORK/$mode.times")" \
+        "$(median "$WORK/$mode.rss" | awk '{ print int($1 / 1024) }')"
+}
+
+median() {
+    sort -n "$1" | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }'
+}
+
+echo "Median of $RUNS runs:"
+printf '%-10s %10s %10s\n' mode first_ms rss_mb
+measure jar java -jar "$JAR"
+measure extracted java -jar "$APP"
+measure cds java -XX:SharedArchiveFile="$WORK/application.jsa" -jar "$APP"
+if unzip -l "$JAR" | grep -q '__ApplicationContextInitializer'; then
+    # AOT code is generated with the prod profile, which serves actuator on its own port
+    measure aot java -XX:SharedArchiveFile="$WORK/application.jsa" -Dspring.aot.enabled=true \
+        -jar "$APP" --management.server.port=$((PORT + 1))
+fi
+if [ -x "$NATIVE" ]; then
+    # Built with the same prod-profile AOT processing as the aot mode
+    measure native "$NATIVE" --management.server.port=$((PORT + 1))
+fi
@@ -0,0 +1,34 @@
+-- Title search benchmark for PostgreSQL.
+--
+-- Run against a scratch database whose schema was created by the application
+-- (prod profile), for example:
+--   psql -h localhost -U postgres -d taskmanager_bench -f config/bench/title-search.sql
+--
+-- Seeds 1M tasks and compares the plan and latency of the title filter
+-- without and with the trigram index from schema-postgresql.sql.
+
+\timing on
+
+INSERT INTO task_statuses (id, name, slug, created_at)
+VALUES (nextval('task_statuses_seq'), 'Benchmark', 'benchmark', now())
+ON CONFLICT DO NOTHING;
+
+INSERT INTO tasks (id, title, content, status_id, created_at)
+SELECT nextval('tasks_seq'),
+       'Task ' || md5(i::text),
+       'Benchmark task',
+       (SELECT id FROM task_statuses WHERE slug = 'benchmark'),
+       current_date
+FROM generate_series(1, 1000000) AS i;
+
+ANALYZE tasks;
+
+-- Before: sequential scan
+DROP INDEX IF EXISTS idx_tasks_title_trgm;
+EXPLAIN (ANALYZE, BUFFERS) SELECT id, title FROM tasks WHERE lower(title) LIKE '%3f9a1%';
+
+-- After: bitmap scan on the trigram index
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX idx_tasks_title_trgm ON tasks USING gin (lower(title) gin_trgm_ops);
+ANALYZE tasks;
+EXPLAIN (ANALYZE, BUFFERS) SELECT id, title FROM tasks WHERE lower(title) LIKE '%3f9a1%';
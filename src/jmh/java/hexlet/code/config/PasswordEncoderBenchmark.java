@@ -0,0 +1,56 @@
+package hexlet.code.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Login throughput per core for each BCrypt cost ({@code app.security.bcrypt.strength}).
+ * <p>
+ * {@code matches} is the work done by {@code /api/login} for every attempt, so its score
+ * in ops/s is the number of logins one core can verify per second. Runs on a single thread;
+ * multiply by the number of cores for a rough capacity estimate.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "qwerty123";
+
+    @Param({"8", "10", "12"})
+    public int strength;
+
+    private PasswordEncoder encoder;
+    private String hash;
+
+    /**
+     * Builds the encoder the application would use with this cost and a stored hash.
+     */
+    @Setup
+    public void setUp() {
+        encoder = new EncodersConfig(null).passwordEncoder(strength);
+        hash = encoder.encode(PASSWORD);
+    }
+
+    /**
+     * Verifies a password against the stored hash, as a login does.
+     *
+     * @return match result
+     */
+    @Benchmark
+    public boolean login() {
+        return encoder.matches(PASSWORD, hash);
+    }
+}
@@ -0,0 +1,68 @@
+package hexlet.code.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of serializing task lists as returned by {@code GET /api/tasks}.
+ * <p>
+ * {@code size} covers the default keyset page and a large unpaged list.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskDtoJsonBenchmark {
+
+    @Param({"50", "1000"})
+    public int size;
+
+    private ObjectWriter writer;
+    private List<TaskDto> tasks;
+
+    /**
+     * Prepares the writer and the task list.
+     */
+    @Setup
+    public void setUp() {
+        var mapper = new ObjectMapper();
+        writer = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, TaskDto.class));
+        tasks = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            var task = new TaskDto();
+            task.setId(i);
+            task.setTitle("Task " + i);
+            task.setContent("Description of task " + i);
+            task.setStatus("draft");
+            task.setStatusId(1L);
+            task.setAssigneeId(i % 10);
+            task.setLabelIds(Set.of(1L, 2L));
+            tasks.add(task);
+        }
+    }
+
+    /**
+     * Serializes the list to UTF-8 bytes, as the HTTP message converter does.
+     *
+     * @return JSON bytes
+     * @throws JsonProcessingException never for these objects
+     */
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(tasks);
+    }
+}
@@ -0,0 +1,193 @@
+package hexlet.code.mapper;
+
+import hexlet.code.component.ReferenceDataCache;
+import hexlet.code.config.EncodersConfig;
+import hexlet.code.dto.TaskDto;
+import hexlet.code.dto.UserDto;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Benchmarks of the MapStruct mappers on the task and user write paths.
+ * <p>
+ * Mappers are wired in a minimal Spring context. Repositories are in-memory stubs,
+ * so {@code taskToEntity} measures mapping plus reference cache lookups without a database,
+ * and {@code userToEntity} is dominated by the BCrypt hash of the password.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapperBenchmark {
+
+    private AnnotationConfigApplicationContext context;
+    private TaskMapper taskMapper;
+    private UserMapper userMapper;
+    private Task task;
+    private TaskDto taskDto;
+    private User user;
+    private UserDto userDto;
+
+    /**
+     * Builds the mapper context and the sample objects.
+     */
+    @Setup
+    public void setUp() {
+        var status = new TaskStatus();
+        status.setId(1L);
+        status.setName("Draft");
+        status.setSlug("draft");
+        var labels = Set.of(label(1L, "bug"), label(2L, "feature"));
+
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(CacheManager.class, () -> new ConcurrentMapCacheManager(
+                ReferenceDataCache.STATUSES_BY_ID,
+                ReferenceDataCache.STATUSES_BY_SLUG,
+                ReferenceDataCache.LABELS_BY_ID));
+        context.registerBean(TaskStatusRepository.class, () -> stub(TaskStatusRepository.class, Map.of(
+                "findById", args -> Optional.of(status),
+                "findBySlug", args -> Optional.of(status),
+                "findAll", args -> List.of(status))));
+        context.registerBean(LabelRepository.class, () -> stub(LabelRepository.class, Map.of(
+                "findByIdIn", args -> labels)));
+        context.registerBean(UserRepository.class, () -> stub(UserRepository.class, Map.of(
+                "existsById", args -> true,
+                "getReferenceById", args -> userWithId((Long) args[0]))));
+        context.registerBean(PasswordEncoder.class, () -> new EncodersConfig(null).passwordEncoder(10));
+        context.register(ReferenceDataCache.class, JsonNullableMapperImpl.class,
+                TaskMapperImpl.class, UserMapperImpl.class);
+        context.refresh();
+
+        taskMapper = context.getBean(TaskMapper.class);
+        userMapper = context.getBean(UserMapper.class);
+
+        user = userWithId(1L);
+        user.setEmail("john@example.com");
+        user.setFirstName("John");
+        user.setLastName("Doe");
+        user.setPassword("$2a$10$abcdefghijklmnopqrstuu");
+        user.setCreatedAt(LocalDate.now());
+
+        task = new Task();
+        task.setId(1L);
+        task.setTitle("Benchmark task");
+        task.setContent("Mapped over and over again");
+        task.setStatus(status);
+        task.setAssignee(user);
+        task.setLabels(labels);
+        task.setCreatedAt(LocalDate.now());
+
+        taskDto = taskMapper.toDto(task);
+        taskDto.setId(null);
+
+        userDto = new UserDto();
+        userDto.setEmail("jane@example.com");
+        userDto.setFirstName("Jane");
+        userDto.setLastName("Doe");
+        userDto.setPassword("qwerty123");
+    }
+
+    /**
+     * Closes the mapper context.
+     */
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Entity to DTO, as done for every task returned by the API.
+     *
+     * @return mapped DTO
+     */
+    @Benchmark
+    public TaskDto taskToDto() {
+        return taskMapper.toDto(task);
+    }
+
+    /**
+     * DTO to entity, including status, label and assignee resolution.
+     *
+     * @return mapped entity
+     */
+    @Benchmark
+    public Task taskToEntity() {
+        return taskMapper.toEntity(taskDto);
+    }
+
+    /**
+     * Entity to DTO for users.
+     *
+     * @return mapped DTO
+     */
+    @Benchmark
+    public UserDto userToDto() {
+        return userMapper.toDto(user);
+    }
+
+    /**
+     * DTO to entity for users, including BCrypt encoding of the password.
+     *
+     * @return mapped entity
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public User userToEntity() {
+        return userMapper.toEntity(userDto);
+    }
+
+    private static Label label(Long id, String name) {
+        var label = new Label();
+        label.setId(id);
+        label.setName(name);
+        return label;
+    }
+
+    private static User userWithId(Long id) {
+        var user = new User();
+        user.setId(id);
+        return user;
+    }
+
+    private static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        var proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (self, method, args) -> {
+            var answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            return switch (method.getName()) {
+                case "toString" -> type.getSimpleName() + " stub";
+                case "hashCode" -> System.identityHashCode(self);
+                case "equals" -> self == args[0];
+                default -> throw new UnsupportedOperationException(method.getName());
+            };
+        });
+        return type.cast(proxy);
+    }
+}
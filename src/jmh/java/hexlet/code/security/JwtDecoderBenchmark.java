@@ -0,0 +1,88 @@
+package hexlet.code.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import hexlet.code.util.JWTUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of authenticating a bearer token: full signature verification against a hit in
+ * {@link CachingJwtDecoder}, for a 2048-bit RSA key and a P-256 EC key.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtDecoderBenchmark {
+
+    @Param({"RS256", "ES256"})
+    public String algorithm;
+
+    private JwtDecoder nimbusDecoder;
+    private JwtDecoder cachingDecoder;
+    private String token;
+
+    /**
+     * Generates a key, a token and both decoders, and warms the cache with the token.
+     *
+     * @throws JOSEException if the key cannot be generated
+     */
+    @Setup
+    public void setUp() throws JOSEException {
+        JWK key = "ES256".equals(algorithm)
+                ? new ECKeyGenerator(Curve.P_256).keyID("es256").generate()
+                : new RSAKeyGenerator(RSAKeyGenerator.MIN_KEY_SIZE_BITS).keyID("rsa").generate();
+        var keyRing = JwtKeyRing.of(new JWKSet(key), null);
+        var jwtUtils = new JWTUtils(new NimbusJwtEncoder(new ImmutableJWKSet<>(keyRing.getKeys())), keyRing,
+                Duration.ofHours(1), Duration.ofDays(30));
+        token = jwtUtils.generateToken("john@example.com", 1L, false);
+
+        var processor = new DefaultJWTProcessor<SecurityContext>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(
+                keyRing.getVerificationAlgorithms(), new ImmutableJWKSet<>(keyRing.getPublicKeys())));
+        nimbusDecoder = new NimbusJwtDecoder(processor);
+        cachingDecoder = new CachingJwtDecoder(nimbusDecoder, new TokenRevocationList(), 10_000);
+        cachingDecoder.decode(token);
+    }
+
+    /**
+     * Verifies the signature and claims on every call.
+     *
+     * @return decoded token
+     */
+    @Benchmark
+    public Jwt verify() {
+        return nimbusDecoder.decode(token);
+    }
+
+    /**
+     * Returns the token from the cache.
+     *
+     * @return decoded token
+     */
+    @Benchmark
+    public Jwt cacheHit() {
+        return cachingDecoder.decode(token);
+    }
+}
@@ -0,0 +1,63 @@
+package hexlet.code.spec;
+
+import hexlet.code.dto.TaskParamsDto;
+import hexlet.code.model.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of building the task filter specification for a request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskSpecificationBenchmark {
+
+    private final TaskSpecification specification = new TaskSpecification();
+    private TaskParamsDto noFilters;
+    private TaskParamsDto allFilters;
+
+    /**
+     * Prepares request parameters.
+     */
+    @Setup
+    public void setUp() {
+        noFilters = new TaskParamsDto();
+
+        allFilters = new TaskParamsDto();
+        allFilters.setTitleCont("report");
+        allFilters.setAssigneeId(1L);
+        allFilters.setStatus("draft");
+        allFilters.setLabelIds(Set.of(1L, 2L, 3L));
+        allFilters.setLabelMatch("all");
+    }
+
+    /**
+     * Specification for a request without filters.
+     *
+     * @return built specification
+     */
+    @Benchmark
+    public Specification<Task> buildUnfiltered() {
+        return specification.build(noFilters);
+    }
+
+    /**
+     * Specification for a request using every filter.
+     *
+     * @return built specification
+     */
+    @Benchmark
+    public Specification<Task> buildAllFilters() {
+        return specification.build(allFilters);
+    }
+}
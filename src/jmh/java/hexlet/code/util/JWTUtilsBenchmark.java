@@ -0,0 +1,71 @@
+package hexlet.code.util;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import hexlet.code.security.JwtKeyRing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of issuing a token on login, signed with a 2048-bit RSA key or a P-256 EC key.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JWTUtilsBenchmark {
+
+    @Param({"RS256", "ES256"})
+    public String algorithm;
+
+    private JWTUtils jwtUtils;
+
+    /**
+     * Generates a signing key of the benchmarked type and the encoder.
+     *
+     * @throws JOSEException if the key cannot be generated
+     */
+    @Setup
+    public void setUp() throws JOSEException {
+        var keyRing = JwtKeyRing.of(new JWKSet(generateKey(algorithm)), null);
+        jwtUtils = new JWTUtils(new NimbusJwtEncoder(new ImmutableJWKSet<>(keyRing.getKeys())), keyRing,
+                Duration.ofMinutes(15), Duration.ofDays(30));
+    }
+
+    /**
+     * Builds and signs a token.
+     *
+     * @return serialized token
+     */
+    @Benchmark
+    public String generateToken() {
+        return jwtUtils.generateToken("john@example.com", 1L, false);
+    }
+
+    /**
+     * Generates a key for the given JWS algorithm.
+     *
+     * @param algorithm {@code RS256} or {@code ES256}
+     * @return key with private part
+     * @throws JOSEException if the key cannot be generated
+     */
+    private static JWK generateKey(String algorithm) throws JOSEException {
+        return "ES256".equals(algorithm)
+                ? new ECKeyGenerator(Curve.P_256).keyID("es256").generate()
+                : new RSAKeyGenerator(RSAKeyGenerator.MIN_KEY_SIZE_BITS).keyID("rsa").generate();
+    }
+}
@@ -1,13 +1,18 @@
 package hexlet.code;
 
+import hexlet.code.config.AppRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableCaching
 @EnableConfigurationProperties
+@ImportRuntimeHints(AppRuntimeHints.class)
 public class AppApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,18 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.security.bearer-token")
+public class BearerTokenProperties {
+    private List<String> ignoredPaths = List.of();
+    private List<String> queryParameterPaths = List.of();
+    private List<String> formBodyPaths = List.of();
+}
@@ -0,0 +1,98 @@
+package hexlet.code.component;
+
+import hexlet.code.model.CollectionVersion;
+import hexlet.code.repository.CollectionVersionRepository;
+import hexlet.code.util.AfterCommit;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Arrays;
+
+/**
+ * Version counters of the polled collections, used as entity tags.
+ * <p>
+ * Services bump the version of a collection on every write; the bump happens after the transaction
+ * commits, so a tag is never paired with data older than the version it names. The tag of a request
+ * combines the versions of the collections its response depends on with the request URI and query:
+ * {@code If-None-Match} answers {@code 304} for unchanged collections and {@code If-Match} answers
+ * {@code 412} for changed ones, at the cost of one read of the small {@code collection_versions} table
+ * instead of the collection itself.
+ * </p>
+ * <p>
+ * The counters are rows in the database, so a write on one instance invalidates the tags of all
+ * instances and the versions survive restarts. Writes that bypass the services, such as manual SQL,
+ * must bump the row themselves: {@code UPDATE collection_versions SET version = version + 1}.
+ * </p>
+ */
+@Component
+public final class CollectionVersions {
+
+    /**
+     * Collections with versioned representations.
+     */
+    public enum Collection {
+        TASKS, TASK_STATUSES, LABELS
+    }
+
+    private final CollectionVersionRepository repository;
+
+    public CollectionVersions(CollectionVersionRepository repository) {
+        this.repository = repository;
+        createMissingRows();
+    }
+
+    /**
+     * Marks a collection as changed, after the current transaction commits if there is one.
+     *
+     * @param collection changed collection
+     */
+    public void bump(Collection collection) {
+        AfterCommit.run(() -> repository.increment(collection.name()));
+    }
+
+    /**
+     * Checks the request preconditions against the current tag.
+     * <p>
+     * For {@code GET} the tag is also set as the {@code ETag} response header.
+     * When this returns {@code true}, the response status is already set to {@code 304} or {@code 412}
+     * and the handler should return without a body.
+     * </p>
+     *
+     * @param request     current request
+     * @param collections collections the response depends on
+     * @return true if the request must not be processed further
+     */
+    public boolean checkNotModified(ServletWebRequest request, Collection... collections) {
+        return request.checkNotModified(etag(request.getRequest(), collections));
+    }
+
+    private String etag(HttpServletRequest request, Collection... collections) {
+        var versions = new long[Collection.values().length];
+        for (var row : repository.findAllById(Arrays.stream(collections).map(Collection::name).toList())) {
+            versions[Collection.valueOf(row.getName()).ordinal()] = row.getVersion();
+        }
+        var tag = new StringBuilder("v");
+        for (var collection : collections) {
+            tag.append('-').append(versions[collection.ordinal()]);
+        }
+        var target = request.getQueryString() == null
+                ? request.getRequestURI()
+                : request.getRequestURI() + '?' + request.getQueryString();
+        return tag.append('-').append(Integer.toHexString(target.hashCode())).toString();
+    }
+
+    // Instances starting together may race to insert the same row
+    private void createMissingRows() {
+        for (var collection : Collection.values()) {
+            if (!repository.existsById(collection.name())) {
+                try {
+                    repository.save(new CollectionVersion(collection.name(), 0));
+                } catch (DataIntegrityViolationException e) {
+                    // Inserted by another instance
+                }
+            }
+        }
+    }
+}
@@ -11,7 +11,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.List;
 import java.util.Map;
@@ -35,7 +35,7 @@ public class DataInitializer implements CommandLineRunner {
     private final UserRepository userRepository;
     private final LabelRepository labelRepository;
     private final TaskStatusRepository statusRepository;
-    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+    private final PasswordEncoder encoder;
 
     @Value("${app.admin.email:hexlet@example.com}")
     private String adminEmail;
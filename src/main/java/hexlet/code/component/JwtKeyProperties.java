@@ -0,0 +1,16 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.jwt")
+public class JwtKeyProperties {
+    private Resource jwkSetLocation;
+    private String signingKeyId;
+}
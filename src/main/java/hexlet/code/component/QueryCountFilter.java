@@ -0,0 +1,95 @@
+package hexlet.code.component;
+
+import hexlet.code.util.QueryCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements executed by each request.
+ * <p>
+ * The count is recorded in the {@code http.server.requests.queries} summary tagged with the endpoint
+ * pattern, and a warning is logged when it exceeds {@code app.query-count.warn-threshold}, which usually
+ * means an N+1 pattern. With {@code app.query-count.header} enabled (dev profile) the count is also
+ * returned in the {@value #HEADER} response header; statements run after the response is committed
+ * are then not included in the header.
+ * </p>
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public final class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Query-Count";
+
+    private final boolean header;
+    private final int warnThreshold;
+    private final MeterRegistry meterRegistry;
+
+    public QueryCountFilter(@Value("${app.query-count.header:false}") boolean header,
+                            @Value("${app.query-count.warn-threshold:20}") int warnThreshold,
+                            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.header = header;
+        this.warnThreshold = warnThreshold;
+        this.meterRegistry = meterRegistry.getIfAvailable();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try (var queries = QueryCounter.start()) {
+            var target = header ? new CountHeaderResponse(response, queries) : response;
+            chain.doFilter(request, target);
+            if (header && !response.isCommitted()) {
+                response.setIntHeader(HEADER, queries.count());
+            }
+            record(request, queries.count());
+        }
+    }
+
+    private void record(HttpServletRequest request, int count) {
+        var pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        var uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        if (count > warnThreshold) {
+            log.warn("{} {} executed {} SQL statements (threshold {})",
+                    request.getMethod(), uri, count, warnThreshold);
+        }
+        if (meterRegistry != null) {
+            DistributionSummary.builder("http.server.requests.queries")
+                    .description("SQL statements executed per request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(count);
+        }
+    }
+
+    private static final class CountHeaderResponse extends OnCommittedResponseWrapper {
+
+        private final QueryCounter.Scope queries;
+
+        CountHeaderResponse(HttpServletResponse response, QueryCounter.Scope queries) {
+            super(response);
+            this.queries = queries;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            setIntHeader(HEADER, queries.count());
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package hexlet.code.component;
+
+import hexlet.code.model.Label;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.util.AfterCommit;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * In-memory cache of task statuses and labels used to resolve task references.
+ * <p>
+ * Both tables are small and rarely change, so task writes look them up here
+ * instead of querying the database on every request. Statuses are cached by ID
+ * and by slug, labels by ID. Cached instances are detached entities shared between
+ * requests and must not be modified; services evict them after every change.
+ * Eviction happens after the writing transaction commits, so a concurrent miss cannot
+ * re-populate an entry from the state before the change. Eviction is local to the instance;
+ * entries also expire a few minutes after they were loaded ({@code spring.cache.caffeine.spec}),
+ * which bounds how long other instances serve a renamed or deleted status or label.
+ * Hit and miss counts are published through the cache metrics of the {@link CacheManager}.
+ * </p>
+ */
+@Component
+public class ReferenceDataCache {
+
+    public static final String STATUSES_BY_ID = "taskStatusesById";
+    public static final String STATUSES_BY_SLUG = "taskStatusesBySlug";
+    public static final String LABELS_BY_ID = "labelsById";
+
+    private final TaskStatusRepository statusRepository;
+    private final LabelRepository labelRepository;
+    private final Cache statusesById;
+    private final Cache statusesBySlug;
+    private final Cache labelsById;
+
+    public ReferenceDataCache(CacheManager cacheManager,
+                              TaskStatusRepository statusRepository,
+                              LabelRepository labelRepository) {
+        this.statusRepository = statusRepository;
+        this.labelRepository = labelRepository;
+        this.statusesById = getCache(cacheManager, STATUSES_BY_ID);
+        this.statusesBySlug = getCache(cacheManager, STATUSES_BY_SLUG);
+        this.labelsById = getCache(cacheManager, LABELS_BY_ID);
+    }
+
+    /**
+     * Finds a task status by ID, loading and caching it on a miss.
+     *
+     * @param id status ID
+     * @return the status, or empty if it does not exist
+     */
+    public Optional<TaskStatus> findStatusById(Long id) {
+        var cached = statusesById.get(id, TaskStatus.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        var status = statusRepository.findById(id);
+        status.ifPresent(this::putStatus);
+        return status;
+    }
+
+    /**
+     * Finds a task status by slug, loading and caching it on a miss.
+     *
+     * @param slug status slug
+     * @return the status, or empty if it does not exist
+     */
+    public Optional<TaskStatus> findStatusBySlug(String slug) {
+        var cached = statusesBySlug.get(slug, TaskStatus.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        var status = statusRepository.findBySlug(slug);
+        status.ifPresent(this::putStatus);
+        return status;
+    }
+
+    /**
+     * Finds task statuses by IDs and slugs for a batch of tasks.
+     * <p>
+     * If any of them is not cached, all statuses are loaded with a single query and cached,
+     * so the result may contain more statuses than requested; callers index it by ID or slug.
+     * </p>
+     *
+     * @param ids   status IDs
+     * @param slugs status slugs
+     * @return statuses including every requested one that exists
+     */
+    public List<TaskStatus> findStatuses(Set<Long> ids, Set<String> slugs) {
+        var found = new ArrayList<TaskStatus>();
+        for (var id : ids) {
+            var cached = statusesById.get(id, TaskStatus.class);
+            if (cached == null) {
+                return loadAllStatuses();
+            }
+            found.add(cached);
+        }
+        for (var slug : slugs) {
+            var cached = statusesBySlug.get(slug, TaskStatus.class);
+            if (cached == null) {
+                return loadAllStatuses();
+            }
+            found.add(cached);
+        }
+        return found;
+    }
+
+    /**
+     * Finds labels by IDs. Labels missing from the cache are loaded with a single query.
+     *
+     * @param ids label IDs
+     * @return labels that exist; may contain fewer elements than {@code ids}
+     */
+    public Set<Label> findLabelsByIds(Set<Long> ids) {
+        var found = new HashSet<Label>();
+        var missing = new HashSet<Long>();
+        for (var id : ids) {
+            var cached = labelsById.get(id, Label.class);
+            if (cached != null) {
+                found.add(cached);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (var label : labelRepository.findByIdIn(missing)) {
+                labelsById.put(label.getId(), label);
+                found.add(label);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Evicts all cached task statuses, after the current transaction commits if there is one.
+     * Called after any status change, since a status is cached under both its ID and slug.
+     */
+    public void evictStatuses() {
+        AfterCommit.run(() -> {
+            statusesById.clear();
+            statusesBySlug.clear();
+        });
+    }
+
+    /**
+     * Evicts a cached label, after the current transaction commits if there is one.
+     *
+     * @param id label ID
+     */
+    public void evictLabel(Long id) {
+        AfterCommit.run(() -> labelsById.evict(id));
+    }
+
+
+    private List<TaskStatus> loadAllStatuses() {
+        var statuses = statusRepository.findAll();
+        statuses.forEach(this::putStatus);
+        return statuses;
+    }
+
+    private void putStatus(TaskStatus status) {
+        statusesById.put(status.getId(), status);
+        statusesBySlug.put(status.getSlug(), status);
+    }
+
+    private static Cache getCache(CacheManager cacheManager, String name) {
+        return Objects.requireNonNull(cacheManager.getCache(name), "Cache '" + name + "' is not configured");
+    }
+}
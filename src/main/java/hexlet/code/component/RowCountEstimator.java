@@ -0,0 +1,52 @@
+package hexlet.code.component;
+
+import hexlet.code.dto.TotalCount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Provides row counts for unfiltered lists.
+ * <p>
+ * When enabled with {@code app.count.estimate.enabled}, large tables are counted from PostgreSQL planner
+ * statistics ({@code pg_class.reltuples}) instead of a full {@code COUNT(*)} scan. The estimate is only as
+ * fresh as the last {@code ANALYZE} and is flagged as such in the result.
+ * Small or never analyzed tables are always counted exactly. Disabled by default.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class RowCountEstimator {
+
+    private static final String ESTIMATE_SQL =
+            "SELECT (SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.count.estimate.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.count.estimate.threshold:100000}")
+    private long threshold;
+
+    /**
+     * Returns the number of rows in the given table.
+     *
+     * @param table      table name
+     * @param exactCount exact count query used when no usable estimate is available
+     * @return estimated or exact number of rows
+     */
+    public TotalCount count(String table, LongSupplier exactCount) {
+        if (!enabled) {
+            return TotalCount.exact(exactCount.getAsLong());
+        }
+        Long estimate = jdbcTemplate.queryForObject(ESTIMATE_SQL, Long.class, table);
+        if (estimate == null || estimate < threshold) {
+            return TotalCount.exact(exactCount.getAsLong());
+        }
+        return new TotalCount(estimate, true);
+    }
+}
@@ -0,0 +1,29 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.sentry.tracing")
+public class SentryTracingProperties {
+    private double defaultRate = 0.1;
+    private List<Rule> rules = List.of();
+    private boolean tailSampling;
+    private double tailFactor = 10;
+    private Duration slowThreshold = Duration.ofSeconds(1);
+
+    @Getter
+    @Setter
+    public static class Rule {
+        private String method;
+        private String path;
+        private double rate;
+    }
+}
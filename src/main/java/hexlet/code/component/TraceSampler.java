@@ -0,0 +1,114 @@
+package hexlet.code.component;
+
+import io.sentry.CustomSamplingContext;
+import io.sentry.Hint;
+import io.sentry.SamplingContext;
+import io.sentry.SentryOptions;
+import io.sentry.SpanStatus;
+import io.sentry.protocol.SentryTransaction;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides which Sentry transactions are recorded and sent.
+ * <p>
+ * Each request is sampled at the rate of the first matching rule in {@code app.sentry.tracing.rules}
+ * (method and path pattern), or at {@code default-rate}. Sentry picks this bean up as its
+ * traces sampler, so unsampled requests are not traced at all. A rule with rate 0 disables tracing.
+ * </p>
+ * <p>
+ * With {@code tail-sampling} enabled, requests are traced at {@code tail-factor} times the rule rate
+ * (at most every request) and the final decision is made when the transaction finishes: transactions
+ * slower than {@code slow-threshold} or ending with a server error are always sent, the rest are thinned
+ * back down so that the rule rate still holds for them. Tail mode therefore catches more slow requests
+ * at a bounded extra tracing cost, instead of tracing every request in memory.
+ * </p>
+ */
+@Component
+public final class TraceSampler implements SentryOptions.TracesSamplerCallback,
+        SentryOptions.BeforeSendTransactionCallback {
+
+    private static final String REQUEST_KEY = "request";
+    private static final Set<SpanStatus> SERVER_ERRORS = EnumSet.of(SpanStatus.INTERNAL_ERROR, SpanStatus.UNKNOWN,
+            SpanStatus.UNKNOWN_ERROR, SpanStatus.UNIMPLEMENTED, SpanStatus.UNAVAILABLE,
+            SpanStatus.DEADLINE_EXCEEDED, SpanStatus.DATA_LOSS);
+
+    private final double defaultRate;
+    private final List<Rule> rules;
+    private final boolean tailSampling;
+    private final double tailFactor;
+    private final double slowThresholdSeconds;
+
+    public TraceSampler(SentryTracingProperties properties) {
+        this.defaultRate = properties.getDefaultRate();
+        this.rules = properties.getRules().stream()
+                .map(rule -> new Rule(rule.getMethod(), PathPatternParser.defaultInstance.parse(rule.getPath()),
+                        rule.getRate()))
+                .toList();
+        this.tailSampling = properties.isTailSampling();
+        this.tailFactor = Math.max(1.0, properties.getTailFactor());
+        this.slowThresholdSeconds = properties.getSlowThreshold().toNanos() / 1e9;
+    }
+
+    @Override
+    public Double sample(SamplingContext samplingContext) {
+        var rate = defaultRate;
+        CustomSamplingContext custom = samplingContext.getCustomSamplingContext();
+        if (custom != null && custom.get(REQUEST_KEY) instanceof HttpServletRequest request) {
+            rate = rateFor(request.getMethod(), request.getRequestURI().substring(request.getContextPath().length()));
+        }
+        return tracedRate(rate);
+    }
+
+    @Override
+    public SentryTransaction execute(SentryTransaction transaction, Hint hint) {
+        if (!tailSampling || isSlow(transaction) || SERVER_ERRORS.contains(transaction.getStatus())) {
+            return transaction;
+        }
+        // Only the traced share of requests gets here, keep rate / tracedRate of them
+        var rate = rateFor(transaction.getTransaction());
+        var traced = tracedRate(rate);
+        return traced > 0 && ThreadLocalRandom.current().nextDouble() < rate / traced ? transaction : null;
+    }
+
+    // Share of requests traced in process; a zero rate turns tracing off even in tail mode
+    private double tracedRate(double rate) {
+        return tailSampling ? Math.min(1.0, rate * tailFactor) : rate;
+    }
+
+    private boolean isSlow(SentryTransaction transaction) {
+        var end = transaction.getTimestamp();
+        return end != null && end - transaction.getStartTimestamp() >= slowThresholdSeconds;
+    }
+
+    // Finished transactions are named "METHOD /path/{pattern}" by Sentry
+    private double rateFor(String transactionName) {
+        if (transactionName == null) {
+            return defaultRate;
+        }
+        var space = transactionName.indexOf(' ');
+        return space < 0 ? defaultRate : rateFor(transactionName.substring(0, space),
+                transactionName.substring(space + 1));
+    }
+
+    private double rateFor(String method, String path) {
+        var container = PathContainer.parsePath(path);
+        for (var rule : rules) {
+            if ((rule.method() == null || rule.method().equalsIgnoreCase(method)) && rule.path().matches(container)) {
+                return rule.rate();
+            }
+        }
+        return defaultRate;
+    }
+
+    private record Rule(String method, PathPattern path, double rate) {
+    }
+}
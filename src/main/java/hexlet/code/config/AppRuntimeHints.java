@@ -0,0 +1,43 @@
+package hexlet.code.config;
+
+import hexlet.code.dto.AuthRequest;
+import hexlet.code.dto.AuthResponse;
+import hexlet.code.dto.BulkResultDto;
+import hexlet.code.dto.LabelDto;
+import hexlet.code.dto.RefreshRequest;
+import hexlet.code.dto.TaskDto;
+import hexlet.code.dto.TaskPageDto;
+import hexlet.code.dto.TaskParamsDto;
+import hexlet.code.dto.TaskStatusDto;
+import hexlet.code.dto.TokenPairResponse;
+import hexlet.code.dto.UserDto;
+import hexlet.code.util.QueryCounter;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Native image metadata that Spring AOT processing cannot infer from the beans.
+ * <p>
+ * Beans, including the MapStruct mappers, are covered by AOT. Registered here are
+ * the DTOs serialized outside of plain controller signatures (streaming export,
+ * async login, bulk results), the Hibernate statement inspector configured by class
+ * name, and the key files under {@code certs/}. Third-party libraries bring their own
+ * metadata or get it from the GraalVM reachability metadata repository.
+ * </p>
+ */
+public final class AppRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingHints = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        bindingHints.registerReflectionHints(hints.reflection(),
+                AuthRequest.class, AuthResponse.class, RefreshRequest.class, TokenPairResponse.class,
+                TaskDto.class, TaskPageDto.class, TaskParamsDto.class, BulkResultDto.class,
+                TaskStatusDto.class, LabelDto.class, UserDto.class);
+        hints.reflection().registerType(QueryCounter.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.resources().registerPattern("certs/*");
+    }
+}
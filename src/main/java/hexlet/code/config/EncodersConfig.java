@@ -4,21 +4,46 @@ import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
-import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
 import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import hexlet.code.component.JwtKeyProperties;
 import hexlet.code.component.RsaKeyProperties;
+import hexlet.code.security.CachingJwtDecoder;
+import hexlet.code.security.JwtKeyRing;
+import hexlet.code.security.TokenRevocationList;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 @Configuration
 public class EncodersConfig {
 
+    public static final String LEGACY_RSA_KEY_ID = "rsa";
+
+    private static final String BCRYPT = "bcrypt";
+
     private final RsaKeyProperties rsaKeys;
 
     public EncodersConfig(RsaKeyProperties rsaKeys) {
@@ -26,36 +51,102 @@ public class EncodersConfig {
     }
 
     /**
-     * Provides the password encoder bean for Spring Security.
+     * Provides the password encoder bean shared by authentication and user management.
+     * <p>
+     * New hashes are stored as {@code {bcrypt}...} with the configured cost.
+     * Hashes without an id prefix (written before the prefix was introduced) are matched as BCrypt.
+     * Hashes with another id or a lower cost are reported by {@code upgradeEncoding}
+     * and rehashed on the next successful login.
+     * </p>
      *
+     * @param strength BCrypt cost factor (log2 of the number of rounds)
      * @return configured {@link PasswordEncoder} instance
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${app.security.bcrypt.strength:10}") int strength) {
+        var bcrypt = new BCryptPasswordEncoder(strength);
+        var encoder = new DelegatingPasswordEncoder(BCRYPT, Map.of(BCRYPT, bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 
     /**
-     * Provides the JWT encoder bean using RSA keys.
+     * Provides the signing and verification keys.
+     * <p>
+     * Keys are loaded from the JWK set at {@code app.jwt.jwk-set-location}, if configured.
+     * The RSA key from {@link RsaKeyProperties} is always added with the ID {@value #LEGACY_RSA_KEY_ID},
+     * so tokens it signed stay valid. {@code app.jwt.signing-key-id} selects the signing key;
+     * by default the first key of the JWK set signs, or the RSA key when there is no JWK set.
+     * </p>
      *
-     * @return configured {@link JwtEncoder} instance
+     * @param properties JWK set location and signing key ID
+     * @return configured {@link JwtKeyRing} instance
+     * @throws IOException    if the JWK set cannot be read
+     * @throws ParseException if the JWK set is malformed
      */
     @Bean
-    public JwtEncoder jwtEncoder() {
-        JWK jwk = new RSAKey.Builder(rsaKeys.getPublicKey())
+    public JwtKeyRing jwtKeyRing(JwtKeyProperties properties) throws IOException, ParseException {
+        List<JWK> keys = new ArrayList<>();
+        if (properties.getJwkSetLocation() != null) {
+            try (var in = properties.getJwkSetLocation().getInputStream()) {
+                keys.addAll(JWKSet.load(in).getKeys());
+            }
+        }
+        keys.add(new RSAKey.Builder(rsaKeys.getPublicKey())
                 .privateKey(rsaKeys.getPrivateKey())
-                .build();
-        JWKSource<SecurityContext> jwks = new ImmutableJWKSet<>(new JWKSet(jwk));
-        return new NimbusJwtEncoder(jwks);
+                .keyID(LEGACY_RSA_KEY_ID)
+                .build());
+        return JwtKeyRing.of(new JWKSet(keys), properties.getSigningKeyId());
     }
 
     /**
-     * Provides the JWT decoder bean using the RSA public key.
+     * Provides the JWT encoder bean. Signs with the key selected by the token header.
      *
+     * @param keyRing signing keys
+     * @return configured {@link JwtEncoder} instance
+     */
+    @Bean
+    public JwtEncoder jwtEncoder(JwtKeyRing keyRing) {
+        return new NimbusJwtEncoder(new ImmutableJWKSet<>(keyRing.getKeys()));
+    }
+
+    /**
+     * Provides the JWT decoder bean accepting every key of the {@link JwtKeyRing}.
+     * <p>
+     * The key is picked by the {@code kid} header, or by algorithm for tokens without one.
+     * Besides the default expiry checks, rejects tokens whose {@code jti} is in the
+     * {@link TokenRevocationList}; the check is in memory and adds no database query.
+     * Verified tokens are cached until they expire, see {@link CachingJwtDecoder}.
+     * </p>
+     *
+     * @param keyRing        verification keys
+     * @param revocationList revoked token IDs
+     * @param cacheSize      maximum number of cached tokens
+     * @param meterRegistry  registry for the cache metrics, if metrics are enabled
      * @return configured {@link JwtDecoder} instance
      */
     @Bean
-    public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withPublicKey(rsaKeys.getPublicKey()).build();
+    public JwtDecoder jwtDecoder(JwtKeyRing keyRing,
+                                 TokenRevocationList revocationList,
+                                 @Value("${app.jwt.decoder-cache.max-size:10000}") long cacheSize,
+                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        var processor = new DefaultJWTProcessor<SecurityContext>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(
+                keyRing.getVerificationAlgorithms(), new ImmutableJWKSet<>(keyRing.getPublicKeys())));
+        // Claims are checked by the Spring validators below
+        processor.setJWTClaimsSetVerifier((claims, context) -> { });
+        var decoder = new NimbusJwtDecoder(processor);
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
+                JwtValidators.createDefault(), notRevoked(revocationList)));
+        var cachingDecoder = new CachingJwtDecoder(decoder, revocationList, cacheSize);
+        meterRegistry.ifAvailable(cachingDecoder::bindTo);
+        return cachingDecoder;
+    }
+
+    private static OAuth2TokenValidator<Jwt> notRevoked(TokenRevocationList revocationList) {
+        var error = new OAuth2Error("invalid_token", "Token has been revoked", null);
+        return jwt -> jwt.getId() != null && revocationList.isRevoked(jwt.getId())
+                ? OAuth2TokenValidatorResult.failure(error)
+                : OAuth2TokenValidatorResult.success();
     }
 }
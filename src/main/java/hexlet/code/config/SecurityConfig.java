@@ -1,7 +1,16 @@
 package hexlet.code.config;
 
+import hexlet.code.component.BearerTokenProperties;
+import hexlet.code.security.PathBearerTokenResolver;
+import hexlet.code.security.SecurityFilterChainTimer;
+import hexlet.code.security.UserJwtAuthenticationConverter;
 import hexlet.code.service.CustomUserDetailsService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -16,8 +25,10 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.server.resource.web.BearerTokenResolver;
-import org.springframework.security.oauth2.server.resource.web.DefaultBearerTokenResolver;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
+import org.springframework.security.web.session.DisableEncodeUrlFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -39,6 +50,9 @@ public class SecurityConfig {
     private final JwtDecoder jwtDecoder;
     private final PasswordEncoder passwordEncoder;
     private final CustomUserDetailsService userService;
+    private final UserJwtAuthenticationConverter jwtAuthenticationConverter;
+    private final BearerTokenProperties bearerTokenProperties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
 
     /**
      * Defines CORS configuration to allow requests from the Render frontend.
@@ -53,8 +67,10 @@ public class SecurityConfig {
                 "http://localhost:8080"
         ));
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
-        config.setAllowedHeaders(List.of("Authorization", "Content-Type", "X-Total-Count"));
-        config.setExposedHeaders(List.of("Authorization", "X-Total-Count"));
+        config.setAllowedHeaders(List.of("Authorization", "Content-Type", "X-Total-Count",
+                "If-None-Match", "If-Match"));
+        config.setExposedHeaders(List.of("Authorization", "X-Total-Count", "X-Total-Count-Estimated",
+                "X-Next-Cursor", "ETag"));
         config.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -63,41 +79,39 @@ public class SecurityConfig {
     }
 
     /**
-     * Provides custom token resolver to skip Swagger and open endpoints.
+     * Provides the token resolver configured by {@code app.security.bearer-token}.
+     * Skips Swagger paths and reads the token from the header only, unless a path allows more.
      *
      * @return configured {@link BearerTokenResolver}
      */
     @Bean
     public BearerTokenResolver bearerTokenResolver() {
-        DefaultBearerTokenResolver resolver = new DefaultBearerTokenResolver();
-        resolver.setAllowFormEncodedBodyParameter(true);
-        resolver.setAllowUriQueryParameter(true);
-
-        return request -> {
-            String path = request.getRequestURI();
-            if (path.startsWith("/swagger-ui")
-                    || path.startsWith("/v3/api-docs")
-                    || path.startsWith("/swagger-resources")
-                    || path.startsWith("/webjars")) {
-                return null;
-            }
-            try {
-                return resolver.resolve(request);
-            } catch (Exception e) {
-                return null;
-            }
-        };
+        return new PathBearerTokenResolver(bearerTokenProperties);
     }
 
     /**
      * Builds the Spring Security filter chain.
+     * When metrics are enabled, the time spent in the chain is recorded by {@link SecurityFilterChainTimer}.
+     * <p>
+     * Actuator health is open. Other actuator endpoints are open on the separate management port,
+     * which is not exposed publicly, and require the admin role when served on the application port.
+     * </p>
      *
-     * @param http {@link HttpSecurity} to configure
+     * @param http           {@link HttpSecurity} to configure
+     * @param managementPort actuator port, or {@code -1} when actuator shares the application port
      * @return configured {@link SecurityFilterChain}
      * @throws Exception if any security configuration fails
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   @Value("${management.server.port:-1}") int managementPort)
+            throws Exception {
+        var registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            var timer = new SecurityFilterChainTimer(registry);
+            http.addFilterBefore(timer.start(), DisableEncodeUrlFilter.class)
+                    .addFilterAfter(timer.end(), AuthorizationFilter.class);
+        }
         return http
                 .csrf(csrf -> csrf.disable())
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -106,20 +120,30 @@ public class SecurityConfig {
                                 "/", "/index.html", "/favicon.ico", "/assets/**",
                                 "/swagger-ui/**", "/swagger-ui.html", "/swagger-ui/index.html",
                                 "/v3/api-docs/**", "/swagger-resources/**", "/webjars/**",
-                                "/api/login",  "/api/login", "/api/users"
+                                "/api/login",  "/api/login", "/api/users",
+                                "/api/auth/login", "/api/auth/refresh", "/api/auth/logout"
                         ).permitAll()
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**").permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                        .requestMatchers(onPort(managementPort)).permitAll()
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .oauth2ResourceServer(rs -> rs
                         .bearerTokenResolver(bearerTokenResolver())
-                        .jwt(jwt -> jwt.decoder(jwtDecoder))
+                        .jwt(jwt -> jwt
+                                .decoder(jwtDecoder)
+                                .jwtAuthenticationConverter(jwtAuthenticationConverter))
                 )
                 .build();
     }
 
+    private static RequestMatcher onPort(int port) {
+        return request -> port > 0 && request.getLocalPort() == port;
+    }
+
     /**
      * Creates the authentication manager used by Spring Security.
      *
@@ -145,6 +169,7 @@ public class SecurityConfig {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(userService);
         provider.setPasswordEncoder(passwordEncoder);
+        provider.setUserDetailsPasswordService(userService);
         return provider;
     }
 }
@@ -1,17 +1,30 @@
 package hexlet.code.controllers;
 
 import hexlet.code.dto.AuthRequest;
+import hexlet.code.dto.RefreshRequest;
+import hexlet.code.dto.TokenPairResponse;
+import hexlet.code.model.User;
+import hexlet.code.security.LoginExecutor;
+import hexlet.code.security.LoginRateLimiter;
+import hexlet.code.security.TokenService;
+import hexlet.code.security.UserAuthenticationToken;
 import hexlet.code.util.JWTUtils;
+import hexlet.code.util.UserUtils;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestMapping;
 
+import java.util.concurrent.CompletableFuture;
+
 
 @RestController
 @RequestMapping("/api")
@@ -20,17 +33,90 @@ public final class AuthController {
 
     private final AuthenticationManager authenticationManager;
     private final JWTUtils jwtUtils;
+    private final UserUtils userUtils;
+    private final LoginExecutor loginExecutor;
+    private final LoginRateLimiter loginRateLimiter;
+    private final TokenService tokenService;
 
+    /**
+     * Authenticates the user and issues an access token.
+     * <p>
+     * Password verification runs on {@link LoginExecutor}, not on the request thread.
+     * Returns 429 when the client or the username exceeds the login rate limit and
+     * 503 when the login pool is saturated, both with {@code Retry-After}.
+     * Kept for existing clients; {@code /api/auth/login} also returns a refresh token.
+     * </p>
+     *
+     * @param authRequest credentials
+     * @param request     HTTP request, used for the client address
+     * @return future completed with the JWT access token
+     */
     @PostMapping("/login")
     @ResponseStatus(HttpStatus.OK)
-    public String login(@RequestBody AuthRequest authRequest) {
+    public CompletableFuture<String> login(@RequestBody AuthRequest authRequest, HttpServletRequest request) {
+        loginRateLimiter.checkAttempt(request.getRemoteAddr(), authRequest.getUsername());
+        return loginExecutor.submit(() -> {
+            var user = authenticate(authRequest);
+            return jwtUtils.generateToken(user.getUsername(), user.getId(), userUtils.isAdmin(user.getUsername()));
+        });
+    }
+
+    /**
+     * Authenticates the user and issues an access and a refresh token.
+     * Same execution and limits as {@code /api/login}.
+     *
+     * @param authRequest credentials
+     * @param request     HTTP request, used for the client address
+     * @return future completed with the token pair
+     */
+    @PostMapping("/auth/login")
+    @ResponseStatus(HttpStatus.OK)
+    public CompletableFuture<TokenPairResponse> loginWithRefresh(@RequestBody AuthRequest authRequest,
+                                                                 HttpServletRequest request) {
+        loginRateLimiter.checkAttempt(request.getRemoteAddr(), authRequest.getUsername());
+        return loginExecutor.submit(() -> tokenService.issue(authenticate(authRequest)));
+    }
+
+    /**
+     * Exchanges a refresh token for a new token pair. Each refresh token can be used once.
+     *
+     * @param refreshRequest the refresh token
+     * @return new token pair
+     */
+    @PostMapping("/auth/refresh")
+    @ResponseStatus(HttpStatus.OK)
+    public TokenPairResponse refresh(@RequestBody RefreshRequest refreshRequest) {
+        return tokenService.refresh(refreshRequest.getRefreshToken());
+    }
+
+    /**
+     * Revokes the refresh token from the body and the access token of the request, if any.
+     *
+     * @param refreshRequest the refresh token, may be empty
+     */
+    @PostMapping("/auth/logout")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void logout(@RequestBody(required = false) RefreshRequest refreshRequest) {
+        if (refreshRequest != null && refreshRequest.getRefreshToken() != null) {
+            tokenService.revokeRefreshToken(refreshRequest.getRefreshToken());
+        }
+        var auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth instanceof UserAuthenticationToken token) {
+            tokenService.revoke(token.getCredentials());
+        }
+    }
+
+    private User authenticate(AuthRequest authRequest) {
         var authToken = new UsernamePasswordAuthenticationToken(
                 authRequest.getUsername(),
                 authRequest.getPassword()
         );
 
-        authenticationManager.authenticate(authToken);
-
-        return jwtUtils.generateToken(authRequest.getUsername());
+        try {
+            return (User) authenticationManager.authenticate(authToken).getPrincipal();
+        } catch (AuthenticationException e) {
+            loginRateLimiter.recordFailure(authRequest.getUsername());
+            throw e;
+        }
     }
 }
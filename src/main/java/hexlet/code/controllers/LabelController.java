@@ -1,12 +1,16 @@
 package hexlet.code.controllers;
 
+import hexlet.code.component.CollectionVersions;
+import hexlet.code.component.CollectionVersions.Collection;
 import hexlet.code.dto.LabelDto;
 import hexlet.code.service.LabelService;
+import hexlet.code.util.PageRequests;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import jakarta.validation.Valid;
 import java.net.URI;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -14,6 +18,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import java.util.List;
 
@@ -27,14 +32,31 @@ import java.util.List;
 public class LabelController {
 
     private final LabelService service;
+    private final CollectionVersions versions;
 
     /**
-     * Returns all labels.
+     * Returns all labels, or a range of them when {@code _start} and {@code _end} are given.
+     * Answers {@code 304} without querying when {@code If-None-Match} holds the current tag.
      *
+     * @param start   index of the first label in the range, inclusive
+     * @param end     index of the last label in the range, exclusive
+     * @param request current request, for conditional headers
      * @return list of labels with total count header
      */
     @GetMapping
-    public ResponseEntity<List<LabelDto>> getAll() {
+    public ResponseEntity<List<LabelDto>> getAll(
+            @RequestParam(name = "_start", required = false) Integer start,
+            @RequestParam(name = "_end", required = false) Integer end,
+            ServletWebRequest request) {
+        if (versions.checkNotModified(request, Collection.LABELS)) {
+            return null;
+        }
+        if (start != null && end != null) {
+            return ResponseEntity.ok()
+                    .header("X-Total-Count", String.valueOf(service.count()))
+                    .body(service.getAll(PageRequests.ofRange(start, end)));
+        }
+
         List<LabelDto> labels = service.getAll();
         return ResponseEntity.ok()
                 .header("X-Total-Count", String.valueOf(labels.size()))
@@ -44,11 +66,15 @@ public class LabelController {
     /**
      * Returns a label by ID.
      *
-     * @param id label ID
+     * @param id      label ID
+     * @param request current request, for conditional headers
      * @return label with the given ID
      */
     @GetMapping("/{id}")
-    public ResponseEntity<LabelDto> getById(@PathVariable Long id) {
+    public ResponseEntity<LabelDto> getById(@PathVariable Long id, ServletWebRequest request) {
+        if (versions.checkNotModified(request, Collection.LABELS)) {
+            return null;
+        }
         return ResponseEntity.ok(service.getById(id));
     }
 
@@ -71,24 +97,35 @@ public class LabelController {
 
     /**
      * Updates an existing label (authentication required).
+     * Answers {@code 412} when {@code If-Match} does not hold the current tag.
      *
-     * @param id  label ID
-     * @param dto updated label data
+     * @param id      label ID
+     * @param dto     updated label data
+     * @param request current request, for conditional headers
      * @return updated label
      */
     @PutMapping("/{id}")
-    public ResponseEntity<LabelDto> update(@PathVariable Long id, @Valid @RequestBody LabelDto dto) {
+    public ResponseEntity<LabelDto> update(@PathVariable Long id, @Valid @RequestBody LabelDto dto,
+                                           ServletWebRequest request) {
+        if (versions.checkNotModified(request, Collection.LABELS)) {
+            return null;
+        }
         return ResponseEntity.ok(service.update(id, dto));
     }
 
     /**
      * Deletes a label by ID (authentication required).
+     * Answers {@code 412} when {@code If-Match} does not hold the current tag.
      *
-     * @param id label ID
+     * @param id      label ID
+     * @param request current request, for conditional headers
      * @return empty response with HTTP 204
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable Long id) {
+    public ResponseEntity<Void> delete(@PathVariable Long id, ServletWebRequest request) {
+        if (versions.checkNotModified(request, Collection.LABELS)) {
+            return null;
+        }
         service.delete(id);
         return ResponseEntity.noContent().build();
     }
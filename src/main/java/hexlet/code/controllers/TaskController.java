@@ -1,21 +1,33 @@
 package hexlet.code.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.component.CollectionVersions;
+import hexlet.code.component.CollectionVersions.Collection;
+import hexlet.code.dto.BulkResultDto;
 import hexlet.code.dto.TaskDto;
 import hexlet.code.dto.TaskParamsDto;
+import hexlet.code.service.TaskBulkService;
 import hexlet.code.service.TaskService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import jakarta.validation.Valid;
@@ -31,30 +43,97 @@ import java.util.List;
 @Tag(name = "Tasks", description = "Task management")
 public class TaskController {
 
+    private static final Collection[] REPRESENTATION = {Collection.TASKS, Collection.TASK_STATUSES, Collection.LABELS};
+
     private final TaskService service;
+    private final TaskBulkService bulkService;
+    private final ObjectMapper objectMapper;
+    private final CollectionVersions versions;
 
     /**
-     * Returns all tasks with optional filtering.
+     * Returns tasks with optional filtering.
+     * <p>
+     * When {@code after} or {@code limit} is given, returns a single keyset page
+     * and the cursor of the next one in the {@code X-Next-Cursor} header;
+     * the total count is then computed by a separate count query. Without filters it may be estimated
+     * from database statistics, which is marked by {@code X-Total-Count-Estimated: true}.
+     * Otherwise returns all matching tasks.
+     * Answers {@code 304} without querying when {@code If-None-Match} holds the current tag.
+     * </p>
      *
-     * @param params filtering parameters
-     * @return list of tasks with total count header
+     * @param params  filtering and pagination parameters
+     * @param request current request, for conditional headers
+     * @return list of tasks with total count or next cursor header
      */
     @GetMapping
-    public ResponseEntity<List<TaskDto>> getAll(@ModelAttribute TaskParamsDto params) {
+    public ResponseEntity<List<TaskDto>> getAll(@ModelAttribute TaskParamsDto params, ServletWebRequest request) {
+        if (versions.checkNotModified(request, REPRESENTATION)) {
+            return null;
+        }
+        if (params.getAfter() != null || params.getLimit() != null) {
+            var page = service.getPage(params);
+            var total = service.count(params);
+            var response = ResponseEntity.ok()
+                    .header("X-Total-Count", String.valueOf(total.value()));
+            if (total.estimated()) {
+                response.header("X-Total-Count-Estimated", "true");
+            }
+            if (page.getNextCursor() != null) {
+                response.header("X-Next-Cursor", page.getNextCursor());
+            }
+            return response.body(page.getContent());
+        }
+
         List<TaskDto> tasks = service.getAll(params);
         return ResponseEntity.ok()
                 .header("X-Total-Count", String.valueOf(tasks.size()))
                 .body(tasks);
     }
 
+    /**
+     * Streams all tasks matching the filter as newline-delimited JSON.
+     * <p>
+     * Used for bulk exports: tasks are written as they are read from the database,
+     * so neither the server nor the client has to hold the whole result in memory.
+     * Selected by {@code stream=true} or, see {@link #streamAccepted}, by {@code Accept: application/x-ndjson}.
+     * </p>
+     *
+     * @param params filtering parameters
+     * @return NDJSON stream of tasks
+     */
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> stream(@ModelAttribute TaskParamsDto params) {
+        StreamingResponseBody body = out -> service.streamAll(params, task -> writeLine(out, task));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Streams all tasks matching the filter for clients that ask for {@code application/x-ndjson}.
+     * Request conditions of one mapping must all match, so this is a second mapping rather than
+     * an alternative on {@link #stream}.
+     *
+     * @param params filtering parameters
+     * @return NDJSON stream of tasks
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAccepted(@ModelAttribute TaskParamsDto params) {
+        return stream(params);
+    }
+
     /**
      * Returns a task by ID.
      *
-     * @param id task ID
+     * @param id      task ID
+     * @param request current request, for conditional headers
      * @return task data
      */
     @GetMapping("/{id}")
-    public ResponseEntity<TaskDto> getById(@PathVariable Long id) {
+    public ResponseEntity<TaskDto> getById(@PathVariable Long id, ServletWebRequest request) {
+        if (versions.checkNotModified(request, REPRESENTATION)) {
+            return null;
+        }
         return ResponseEntity.ok(service.getById(id));
     }
 
@@ -77,25 +156,98 @@ public class TaskController {
 
     /**
      * Updates a task by ID (authentication required).
+     * Answers {@code 412} when {@code If-Match} does not hold the current tag
+     * and {@code 409} when the body carries a stale {@code version}.
      *
-     * @param id  task ID
-     * @param dto updated task data
+     * @param id      task ID
+     * @param dto     updated task data
+     * @param request current request, for conditional headers
      * @return updated task
      */
     @PutMapping("/{id}")
-    public ResponseEntity<TaskDto> update(@PathVariable Long id, @Valid @RequestBody TaskDto dto) {
+    public ResponseEntity<TaskDto> update(@PathVariable Long id, @Valid @RequestBody TaskDto dto,
+                                          ServletWebRequest request) {
+        if (versions.checkNotModified(request, REPRESENTATION)) {
+            return null;
+        }
         return ResponseEntity.ok(service.update(id, dto));
     }
 
+    /**
+     * Moves a task to another status (authentication required).
+     * Only {@code statusId} or {@code status} is read from the body; the transition
+     * is retried on concurrent modification instead of failing with {@code 409}.
+     *
+     * @param id  task ID
+     * @param dto body with the target status
+     * @return updated task
+     */
+    @PatchMapping("/{id}/status")
+    public ResponseEntity<TaskDto> changeStatus(@PathVariable Long id, @RequestBody TaskDto dto) {
+        return ResponseEntity.ok(service.changeStatus(id, dto));
+    }
+
     /**
      * Deletes a task by ID (authentication required).
+     * Answers {@code 412} when {@code If-Match} does not hold the current tag.
      *
-     * @param id task ID
+     * @param id      task ID
+     * @param request current request, for conditional headers
      * @return empty response with status 204
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable Long id) {
+    public ResponseEntity<Void> delete(@PathVariable Long id, ServletWebRequest request) {
+        if (versions.checkNotModified(request, REPRESENTATION)) {
+            return null;
+        }
         service.delete(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Creates several tasks in one transaction (authentication required).
+     * <p>
+     * Returns one result per item in request order; items that fail validation
+     * carry their error status and do not prevent the others from being created.
+     * </p>
+     *
+     * @param dtos tasks to create
+     * @return per-item results
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkResultDto>> createAll(@RequestBody List<TaskDto> dtos) {
+        return ResponseEntity.ok(bulkService.createAll(dtos));
+    }
+
+    /**
+     * Partially updates several tasks in one transaction (authentication required).
+     * Each item must contain the task {@code id}; {@code null} fields are left unchanged.
+     *
+     * @param dtos task changes
+     * @return per-item results
+     */
+    @PatchMapping("/bulk")
+    public ResponseEntity<List<BulkResultDto>> updateAll(@RequestBody List<TaskDto> dtos) {
+        return ResponseEntity.ok(bulkService.updateAll(dtos));
+    }
+
+    /**
+     * Deletes several tasks in one transaction (authentication required).
+     *
+     * @param ids IDs of tasks to delete
+     * @return per-item results
+     */
+    @DeleteMapping("/bulk")
+    public ResponseEntity<List<BulkResultDto>> deleteAll(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(bulkService.deleteAll(ids));
+    }
+
+    private void writeLine(OutputStream out, TaskDto task) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(task));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
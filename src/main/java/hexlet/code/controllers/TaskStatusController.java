@@ -1,7 +1,10 @@
 package hexlet.code.controllers;
 
+import hexlet.code.component.CollectionVersions;
+import hexlet.code.component.CollectionVersions.Collection;
 import hexlet.code.dto.TaskStatusDto;
 import hexlet.code.service.TaskStatusService;
+import hexlet.code.util.PageRequests;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -12,7 +15,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 import java.net.URI;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import jakarta.validation.Valid;
@@ -30,14 +35,31 @@ import java.util.List;
 public class TaskStatusController {
 
     private final TaskStatusService service;
+    private final CollectionVersions versions;
 
     /**
-     * Returns all task statuses.
+     * Returns all task statuses, or a range of them when {@code _start} and {@code _end} are given.
+     * Answers {@code 304} without querying when {@code If-None-Match} holds the current tag.
      *
-     * @return list of all task statuses with total count header
+     * @param start   index of the first status in the range, inclusive
+     * @param end     index of the last status in the range, exclusive
+     * @param request current request, for conditional headers
+     * @return list of task statuses with total count header
      */
     @GetMapping
-    public ResponseEntity<List<TaskStatusDto>> getAll() {
+    public ResponseEntity<List<TaskStatusDto>> getAll(
+            @RequestParam(name = "_start", required = false) Integer start,
+            @RequestParam(name = "_end", required = false) Integer end,
+            ServletWebRequest request) {
+        if (versions.checkNotModified(request, Collection.TASK_STATUSES)) {
+            return null;
+        }
+        if (start != null && end != null) {
+            return ResponseEntity.ok()
+                    .header("X-Total-Count", String.valueOf(service.count()))
+                    .body(service.getAll(PageRequests.ofRange(start, end)));
+        }
+
         List<TaskStatusDto> statuses = service.getAll();
         return ResponseEntity.ok()
                 .header("X-Total-Count", String.valueOf(statuses.size()))
@@ -47,11 +69,15 @@ public class TaskStatusController {
     /**
      * Returns a task status by ID.
      *
-     * @param id task status ID
+     * @param id      task status ID
+     * @param request current request, for conditional headers
      * @return task status with the specified ID
      */
     @GetMapping("/{id}")
-    public ResponseEntity<TaskStatusDto> getById(@PathVariable Long id) {
+    public ResponseEntity<TaskStatusDto> getById(@PathVariable Long id, ServletWebRequest request) {
+        if (versions.checkNotModified(request, Collection.TASK_STATUSES)) {
+            return null;
+        }
         var status = service.findById(id);
         return ResponseEntity.ok(status);
     }
@@ -77,24 +103,35 @@ public class TaskStatusController {
 
     /**
      * Updates an existing task status (authentication required).
+     * Answers {@code 412} when {@code If-Match} does not hold the current tag.
      *
-     * @param id  task status ID
-     * @param dto updated task status data
+     * @param id      task status ID
+     * @param dto     updated task status data
+     * @param request current request, for conditional headers
      * @return updated task status
      */
     @PutMapping("/{id}")
-    public ResponseEntity<TaskStatusDto> update(@PathVariable Long id, @Valid @RequestBody TaskStatusDto dto) {
+    public ResponseEntity<TaskStatusDto> update(@PathVariable Long id, @Valid @RequestBody TaskStatusDto dto,
+                                                ServletWebRequest request) {
+        if (versions.checkNotModified(request, Collection.TASK_STATUSES)) {
+            return null;
+        }
         return ResponseEntity.ok(service.update(id, dto));
     }
 
     /**
      * Deletes a task status by ID (authentication required).
+     * Answers {@code 412} when {@code If-Match} does not hold the current tag.
      *
-     * @param id task status ID
+     * @param id      task status ID
+     * @param request current request, for conditional headers
      * @return empty response with HTTP 204
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable Long id) {
+    public ResponseEntity<Void> delete(@PathVariable Long id, ServletWebRequest request) {
+        if (versions.checkNotModified(request, Collection.TASK_STATUSES)) {
+            return null;
+        }
         service.delete(id);
         return ResponseEntity.noContent().build();
     }
@@ -2,6 +2,7 @@ package hexlet.code.controllers;
 
 import hexlet.code.dto.UserDto;
 import hexlet.code.service.UserService;
+import hexlet.code.util.PageRequests;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import java.net.URI;
@@ -33,12 +35,23 @@ public class UserController {
     private final UserService userService;
 
     /**
-     * Returns all users (authentication required).
+     * Returns all users, or a range of them when {@code _start} and {@code _end} are given
+     * (authentication required).
      *
+     * @param start index of the first user in the range, inclusive
+     * @param end   index of the last user in the range, exclusive
      * @return list of users with total count header
      */
     @GetMapping
-    public ResponseEntity<List<UserDto>> getAllUsers() {
+    public ResponseEntity<List<UserDto>> getAllUsers(
+            @RequestParam(name = "_start", required = false) Integer start,
+            @RequestParam(name = "_end", required = false) Integer end) {
+        if (start != null && end != null) {
+            return ResponseEntity.ok()
+                    .header("X-Total-Count", String.valueOf(userService.countUsers()))
+                    .body(userService.getAllUsers(PageRequests.ofRange(start, end)));
+        }
+
         List<UserDto> users = userService.getAllUsers();
         return ResponseEntity.ok()
                 .header("X-Total-Count", String.valueOf(users.size()))
@@ -0,0 +1,37 @@
+package hexlet.code.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Outcome of a single item of a bulk request.
+ * <p>
+ * {@code index} is the position of the item in the request array and {@code status}
+ * is the HTTP status the item would have received as a single request.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkResultDto {
+    private int index;
+    private Long id;
+    private int status;
+    private String message;
+    private TaskDto task;
+
+    public static BulkResultDto success(int index, HttpStatus status, TaskDto task) {
+        return new BulkResultDto(index, task.getId(), status.value(), null, task);
+    }
+
+    public static BulkResultDto deleted(int index, Long id) {
+        return new BulkResultDto(index, id, HttpStatus.NO_CONTENT.value(), null, null);
+    }
+
+    public static BulkResultDto failure(int index, Long id, ResponseStatusException e) {
+        return new BulkResultDto(index, id, e.getStatusCode().value(), e.getReason(), null);
+    }
+}
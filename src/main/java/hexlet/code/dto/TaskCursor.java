@@ -0,0 +1,57 @@
+package hexlet.code.dto;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in the {@code (createdAt, id)} ordering of tasks.
+ * <p>
+ * Clients receive it as an opaque URL-safe token and pass it back unchanged
+ * in the {@code after} parameter to fetch the next page.
+ * </p>
+ *
+ * @param createdAt creation date of the last task on the previous page
+ * @param id        ID of the last task on the previous page
+ */
+public record TaskCursor(LocalDate createdAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Encodes the cursor into an opaque token.
+     *
+     * @return URL-safe Base64 token
+     */
+    public String encode() {
+        var raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @param token opaque cursor token, may be {@code null} or blank
+     * @return decoded cursor or {@code null} if no token was given
+     * @throws ResponseStatusException with {@code 400 BAD REQUEST} if the token is malformed
+     */
+    public static TaskCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            var separatorIndex = raw.indexOf(SEPARATOR);
+            return new TaskCursor(
+                    LocalDate.parse(raw.substring(0, separatorIndex)),
+                    Long.valueOf(raw.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+}
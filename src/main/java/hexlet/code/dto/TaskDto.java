@@ -8,6 +8,7 @@ import java.util.Set;
 @Data
 public class TaskDto {
     private Long id;
+    private Long version;
     private String title;
     private String content;
     private String status;
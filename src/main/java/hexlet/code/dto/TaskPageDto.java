@@ -0,0 +1,13 @@
+package hexlet.code.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TaskPageDto {
+    private List<TaskDto> content;
+    private String nextCursor;
+}
@@ -2,10 +2,16 @@ package hexlet.code.dto;
 
 import lombok.Data;
 
+import java.util.Set;
+
 @Data
 public class TaskParamsDto {
     private String titleCont;
     private Long assigneeId;
     private String status;
     private Long labelId;
+    private Set<Long> labelIds;
+    private String labelMatch;
+    private String after;
+    private Integer limit;
 }
@@ -0,0 +1,21 @@
+package hexlet.code.dto;
+
+/**
+ * Number of items in a list, sent in the {@code X-Total-Count} header.
+ *
+ * @param value     number of items
+ * @param estimated true if the number comes from database statistics and may be off,
+ *                  see {@link hexlet.code.component.RowCountEstimator}
+ */
+public record TotalCount(long value, boolean estimated) {
+
+    /**
+     * Creates an exact count.
+     *
+     * @param value number of items
+     * @return exact count
+     */
+    public static TotalCount exact(long value) {
+        return new TotalCount(value, false);
+    }
+}
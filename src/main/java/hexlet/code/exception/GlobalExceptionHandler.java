@@ -2,8 +2,11 @@ package hexlet.code.exception;
 
 import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.transaction.TransactionSystemException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -107,6 +110,20 @@ public class GlobalExceptionHandler {
                 .body(Map.of("message", message));
     }
 
+    /**
+     * Handles optimistic locking conflicts, when a row was changed by another transaction
+     * between reading and writing it.
+     *
+     * @param ex the thrown exception
+     * @return response with HTTP 409 status
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, String>> handleOptimisticLocking(OptimisticLockingFailureException ex) {
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(Map.of("message", "Record was modified by another request, reload and try again"));
+    }
+
     /**
      * Handles exceptions explicitly thrown with {@link ResponseStatusException}.
      *
@@ -117,9 +134,36 @@ public class GlobalExceptionHandler {
     public ResponseEntity<Map<String, String>> handleResponseStatus(ResponseStatusException ex) {
         return ResponseEntity
                 .status(ex.getStatusCode())
+                .headers(ex.getHeaders())
                 .body(Map.of("message", ex.getReason()));
     }
 
+    /**
+     * Handles failed logins.
+     *
+     * @param ex the thrown exception
+     * @return response with HTTP 401 status
+     */
+    @ExceptionHandler(AuthenticationException.class)
+    public ResponseEntity<Map<String, String>> handleAuthentication(AuthenticationException ex) {
+        return ResponseEntity
+                .status(HttpStatus.UNAUTHORIZED)
+                .body(Map.of("message", "Invalid username or password"));
+    }
+
+    /**
+     * Handles authorization failures of {@code @PreAuthorize} checks.
+     *
+     * @param ex the thrown exception
+     * @return response with HTTP 403 status
+     */
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<Map<String, String>> handleAccessDenied(AccessDeniedException ex) {
+        return ResponseEntity
+                .status(HttpStatus.FORBIDDEN)
+                .body(Map.of("message", "Access denied"));
+    }
+
     /**
      * Handles lower-level SQL errors during database interaction.
      *
@@ -0,0 +1,28 @@
+package hexlet.code.exception;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+
+/**
+ * {@link ResponseStatusException} that tells the client when to retry via the {@code Retry-After} header.
+ * Used for {@code 429 Too Many Requests} and {@code 503 Service Unavailable}.
+ */
+public final class RetryLaterException extends ResponseStatusException {
+
+    private final long retryAfterSeconds;
+
+    public RetryLaterException(HttpStatus status, String reason, Duration retryAfter) {
+        super(status, reason);
+        this.retryAfterSeconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        var headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return headers;
+    }
+}
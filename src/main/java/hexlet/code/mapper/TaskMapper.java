@@ -1,12 +1,11 @@
 package hexlet.code.mapper;
 
+import hexlet.code.component.ReferenceDataCache;
 import hexlet.code.dto.TaskDto;
 import hexlet.code.model.Label;
 import hexlet.code.model.Task;
 import hexlet.code.model.TaskStatus;
 import hexlet.code.model.User;
-import hexlet.code.repository.LabelRepository;
-import hexlet.code.repository.TaskStatusRepository;
 import hexlet.code.repository.UserRepository;
 import org.mapstruct.Context;
 import org.mapstruct.Mapper;
@@ -33,14 +32,11 @@ import java.util.stream.Collectors;
 public abstract class TaskMapper {
 
     @Autowired
-    protected TaskStatusRepository statusRepository;
+    protected ReferenceDataCache referenceDataCache;
 
     @Autowired
     protected UserRepository userRepository;
 
-    @Autowired
-    protected LabelRepository labelRepository;
-
     @Value("${app.default-status:draft}")
     private String defaultStatusSlug;
 
@@ -49,16 +45,32 @@ public abstract class TaskMapper {
     @Mapping(target = "labelIds", source = "labels", qualifiedByName = "labelsToIds")
     public abstract TaskDto toDto(Task entity);
 
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "status", source = ".", qualifiedByName = "statusFromDtoCreate")
     @Mapping(target = "assignee", source = "assigneeId", qualifiedByName = "userFromId")
     @Mapping(target = "labels", source = "labelIds", qualifiedByName = "labelsFromIds")
     public abstract Task toEntity(TaskDto dto);
 
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "status", source = ".", qualifiedByName = "statusFromDtoUpdate")
     @Mapping(target = "assignee", source = "assigneeId", qualifiedByName = "userFromId")
     @Mapping(target = "labels", source = "labelIds", qualifiedByName = "safeLabelsFromIds")
     public abstract void update(TaskDto dto, @MappingTarget Task entity, @Context Task existingEntity);
 
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "status", ignore = true)
+    @Mapping(target = "assignee", ignore = true)
+    @Mapping(target = "labels", ignore = true)
+    public abstract Task toEntityWithoutReferences(TaskDto dto);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "status", ignore = true)
+    @Mapping(target = "assignee", ignore = true)
+    @Mapping(target = "labels", ignore = true)
+    public abstract void updateWithoutReferences(TaskDto dto, @MappingTarget Task entity);
+
     /**
      * Converts a set of Label entities to a set of their IDs.
      * <p>
@@ -87,7 +99,7 @@ public abstract class TaskMapper {
         if (labelIds == null || labelIds.isEmpty()) {
             return Set.of();
         }
-        var foundLabels = labelRepository.findByIdIn(labelIds);
+        var foundLabels = referenceDataCache.findLabelsByIds(labelIds);
         if (foundLabels.size() != labelIds.size()) {
             var foundIds = foundLabels.stream().map(Label::getId).collect(Collectors.toSet());
             var missing = labelIds.stream().filter(id -> !foundIds.contains(id)).collect(Collectors.toSet());
@@ -113,7 +125,7 @@ public abstract class TaskMapper {
             return Set.of();
         }
 
-        var foundLabels = labelRepository.findByIdIn(labelIds);
+        var foundLabels = referenceDataCache.findLabelsByIds(labelIds);
         if (foundLabels.size() != labelIds.size()) {
             var foundIds = foundLabels.stream().map(Label::getId).collect(Collectors.toSet());
             var missing = labelIds.stream().filter(id -> !foundIds.contains(id)).collect(Collectors.toSet());
@@ -124,19 +136,24 @@ public abstract class TaskMapper {
     }
 
     /**
-     * Converts an assignee ID to a User entity.
-     * This helper method is final and should not be overridden.
+     * Converts an assignee ID to a User reference.
+     * <p>
+     * Only the foreign key is needed, so the user is checked with an existence query
+     * and attached as an uninitialized proxy instead of being loaded in full.
+     * </p>
      *
      * @param id User ID
-     * @return User entity or null if id is null
+     * @return User reference or null if id is null
      */
     @Named("userFromId")
     public User mapUserFromId(Long id) {
         if (id == null) {
             return null;
         }
-        return userRepository.findById(id)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Assignee not found"));
+        if (!userRepository.existsById(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Assignee not found");
+        }
+        return userRepository.getReferenceById(id);
     }
 
     /**
@@ -152,18 +169,18 @@ public abstract class TaskMapper {
     @Named("statusFromDtoCreate")
     public TaskStatus mapStatusFromDtoCreate(TaskDto dto) {
         if (dto.getStatusId() != null) {
-            return statusRepository.findById(dto.getStatusId())
+            return referenceDataCache.findStatusById(dto.getStatusId())
                     .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
                             "Task status with id " + dto.getStatusId() + " not found"));
         }
 
         if (dto.getStatus() != null && !dto.getStatus().isBlank()) {
-            return statusRepository.findBySlug(dto.getStatus())
+            return referenceDataCache.findStatusBySlug(dto.getStatus())
                     .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
                             "Task status '" + dto.getStatus() + "' not found"));
         }
 
-        return statusRepository.findBySlug(defaultStatusSlug)
+        return referenceDataCache.findStatusBySlug(defaultStatusSlug)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
                         "Default status '" + defaultStatusSlug + "' not found"));
     }
@@ -182,13 +199,13 @@ public abstract class TaskMapper {
     @Named("statusFromDtoUpdate")
     public TaskStatus mapStatusFromDtoUpdate(TaskDto dto, @Context Task existingEntity) {
         if (dto.getStatusId() != null) {
-            return statusRepository.findById(dto.getStatusId())
+            return referenceDataCache.findStatusById(dto.getStatusId())
                     .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
                             "Task status with id " + dto.getStatusId() + " not found"));
         }
 
         if (dto.getStatus() != null && !dto.getStatus().isBlank()) {
-            return statusRepository.findBySlug(dto.getStatus())
+            return referenceDataCache.findStatusBySlug(dto.getStatus())
                     .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
                             "Task status '" + dto.getStatus() + "' not found"));
         }
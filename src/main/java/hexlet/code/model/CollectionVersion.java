@@ -0,0 +1,28 @@
+package hexlet.code.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Change counter of a polled collection, shared by all application instances.
+ */
+@Entity
+@Table(name = "collection_versions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CollectionVersion implements BaseEntity {
+
+    @Id
+    private String name;
+
+    @Column(nullable = false)
+    private long version;
+}
@@ -0,0 +1,51 @@
+package hexlet.code.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+/**
+ * Revoked or already used token ID ({@code jti}), kept until the token expires.
+ */
+@Entity
+@Table(name = "revoked_tokens", indexes = @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedToken implements BaseEntity, Persistable<String> {
+
+    @Id
+    private String jti;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "refresh_token", nullable = false)
+    private boolean refreshToken;
+
+    @Override
+    public String getId() {
+        return jti;
+    }
+
+    /**
+     * Always new, so saving inserts and a second revocation of the same token fails on the primary key
+     * instead of silently merging.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 import lombok.AllArgsConstructor;
@@ -30,9 +31,10 @@ import java.util.Collections;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-public final class User implements UserDetails, BaseEntity {
+public class User implements UserDetails, BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     private String firstName;
@@ -53,36 +55,71 @@ public final class User implements UserDetails, BaseEntity {
     @Column(nullable = false)
     private LocalDate updatedAt;
 
+    /**
+     * Users have no roles; authorization is decided per resource.
+     *
+     * @return an empty collection
+     */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return Collections.emptyList();
     }
 
+    /**
+     * Returns the encoded password.
+     *
+     * @return password hash
+     */
     @Override
     public String getPassword() {
         return password;
     }
 
+    /**
+     * Returns the email, which is used as the login name.
+     *
+     * @return user email
+     */
     @Override
     public String getUsername() {
         return email;
     }
 
+    /**
+     * Accounts never expire.
+     *
+     * @return always {@code true}
+     */
     @Override
     public boolean isAccountNonExpired() {
         return true;
     }
 
+    /**
+     * Accounts are never locked.
+     *
+     * @return always {@code true}
+     */
     @Override
     public boolean isAccountNonLocked() {
         return true;
     }
 
+    /**
+     * Credentials never expire.
+     *
+     * @return always {@code true}
+     */
     @Override
     public boolean isCredentialsNonExpired() {
         return true;
     }
 
+    /**
+     * Accounts are always enabled.
+     *
+     * @return always {@code true}
+     */
     @Override
     public boolean isEnabled() {
         return true;
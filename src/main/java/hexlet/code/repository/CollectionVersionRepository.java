@@ -0,0 +1,17 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.CollectionVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface CollectionVersionRepository extends JpaRepository<CollectionVersion, String> {
+    // Called after the writing transaction has committed, so it must not join it
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("update CollectionVersion v set v.version = v.version + 1 where v.name = :name")
+    int increment(@Param("name") String name);
+}
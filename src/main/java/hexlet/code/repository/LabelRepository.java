@@ -1,6 +1,8 @@
 package hexlet.code.repository;
 
 import hexlet.code.model.Label;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
@@ -10,4 +12,5 @@ public interface LabelRepository extends JpaRepository<Label, Long> {
     Optional<Label> findByName(String name);
     boolean existsByName(String name);
     Set<Label> findByIdIn(Set<Long> ids);
+    Slice<Label> findAllBy(Pageable pageable);
 }
@@ -0,0 +1,10 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.Task;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+public interface TaskRepositoryCustom {
+    Stream<Task> streamAll(Specification<Task> spec, int fetchSize);
+}
@@ -0,0 +1,52 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.JoinType;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+/**
+ * Streaming queries for tasks that do not fit into a {@link java.util.List}.
+ */
+final class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Streams tasks matching the specification ordered by ID.
+     * <p>
+     * Status, assignee and labels are fetched in the same query; rows are read
+     * from the JDBC cursor in chunks of {@code fetchSize}, and entities are loaded
+     * read-only. The stream must be consumed and closed inside a transaction.
+     * </p>
+     *
+     * @param spec      filter specification
+     * @param fetchSize JDBC fetch size
+     * @return lazily populated stream of tasks
+     */
+    @Override
+    public Stream<Task> streamAll(Specification<Task> spec, int fetchSize) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createQuery(Task.class);
+        var root = query.from(Task.class);
+        root.fetch("status", JoinType.LEFT);
+        root.fetch("assignee", JoinType.LEFT);
+        root.fetch("labels", JoinType.LEFT);
+
+        var predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root).orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
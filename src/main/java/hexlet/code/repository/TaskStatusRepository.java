@@ -1,6 +1,8 @@
 package hexlet.code.repository;
 
 import hexlet.code.model.TaskStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
@@ -8,4 +10,5 @@ import java.util.Optional;
 public interface TaskStatusRepository extends JpaRepository<TaskStatus, Long> {
     Optional<TaskStatus> findBySlug(String slug);
     boolean existsBySlug(String slug);
+    Slice<TaskStatus> findAllBy(Pageable pageable);
 }
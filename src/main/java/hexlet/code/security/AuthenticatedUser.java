@@ -0,0 +1,23 @@
+package hexlet.code.security;
+
+import java.security.Principal;
+
+/**
+ * Principal of a request authenticated with a JWT.
+ * <p>
+ * Carries the user ID and admin flag from the token claims, so authorization checks
+ * need no database lookup. {@code id} is {@code null} for tokens issued before
+ * the claims were introduced.
+ * </p>
+ *
+ * @param id    user ID, or {@code null} if the token has no {@code uid} claim
+ * @param email user email (token subject)
+ * @param admin whether the user is the administrator
+ */
+public record AuthenticatedUser(Long id, String email, boolean admin) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -0,0 +1,109 @@
+package hexlet.code.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * {@link JwtDecoder} that remembers tokens it has already verified.
+ * <p>
+ * Clients send the same bearer token on every request, and verifying the RSA signature costs far more
+ * than the rest of the authentication. Successfully decoded tokens are cached under the SHA-256 of the
+ * token string until their {@code exp}, so a repeated token is verified once. The cache is bounded by
+ * size; tokens without {@code exp} and failed decodes are never cached. Revocation is checked again on
+ * every hit, because the delegate's validators only run on a miss.
+ * </p>
+ * <p>
+ * Hit and miss counts are published as {@code cache.*} metrics with {@code cache=jwtDecoder}.
+ * </p>
+ */
+public final class CachingJwtDecoder implements JwtDecoder {
+
+    public static final String CACHE_NAME = "jwtDecoder";
+
+    private static final OAuth2Error REVOKED = new OAuth2Error("invalid_token", "Token has been revoked", null);
+
+    private final JwtDecoder delegate;
+    private final TokenRevocationList revocationList;
+    private final Cache<String, Jwt> cache;
+
+    public CachingJwtDecoder(JwtDecoder delegate, TokenRevocationList revocationList, long maxSize) {
+        this.delegate = delegate;
+        this.revocationList = revocationList;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilExpiry())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Publishes the cache statistics.
+     *
+     * @param registry meter registry
+     */
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        var key = hash(token);
+        var cached = cache.getIfPresent(key);
+        if (cached != null) {
+            if (cached.getId() != null && revocationList.isRevoked(cached.getId())) {
+                cache.invalidate(key);
+                throw new JwtValidationException(REVOKED.getDescription(), List.of(REVOKED));
+            }
+            return cached;
+        }
+        var jwt = delegate.decode(token);
+        if (jwt.getExpiresAt() != null) {
+            cache.put(key, jwt);
+        }
+        return jwt;
+    }
+
+    private static String hash(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class UntilExpiry implements Expiry<String, Jwt> {
+
+        @Override
+        public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            var remaining = Duration.between(Instant.now(), jwt.getExpiresAt());
+            return remaining.isNegative() ? 0 : remaining.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
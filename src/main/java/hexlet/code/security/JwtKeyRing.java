@@ -0,0 +1,126 @@
+package hexlet.code.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Keys used to sign and verify tokens.
+ * <p>
+ * Every key has a key ID ({@code kid}) that is written to the header of the tokens it signs, so the
+ * decoder picks the matching key directly. One key signs new tokens; all keys verify. To rotate, add
+ * the new key to the set, make it the signing key and remove the old one once its tokens have expired.
+ * Tokens issued before key IDs were introduced have no {@code kid} and are matched by algorithm.
+ * RSA and EC (P-256, P-384, P-521) keys are supported.
+ * </p>
+ */
+public final class JwtKeyRing {
+
+    private final JWKSet keys;
+    private final JWK signingKey;
+    private final SignatureAlgorithm signingAlgorithm;
+
+    private JwtKeyRing(JWKSet keys, JWK signingKey) {
+        this.keys = keys;
+        this.signingKey = signingKey;
+        this.signingAlgorithm = SignatureAlgorithm.from(algorithmOf(signingKey).getName());
+    }
+
+    /**
+     * Creates a key ring.
+     *
+     * @param keys         all active keys, each with a key ID
+     * @param signingKeyId ID of the key that signs new tokens, or null for the first key
+     * @return key ring
+     * @throws IllegalStateException if a key has no ID or an unsupported type,
+     *                               or the signing key is missing or has no private part
+     */
+    public static JwtKeyRing of(JWKSet keys, String signingKeyId) {
+        if (keys.getKeys().isEmpty()) {
+            throw new IllegalStateException("No JWT keys configured");
+        }
+        for (var key : keys.getKeys()) {
+            if (key.getKeyID() == null) {
+                throw new IllegalStateException("JWT key without kid");
+            }
+            algorithmOf(key);
+        }
+        var signingKey = signingKeyId == null ? keys.getKeys().getFirst() : keys.getKeyByKeyId(signingKeyId);
+        if (signingKey == null || !signingKey.isPrivate()) {
+            throw new IllegalStateException("No private JWT key with kid " + signingKeyId);
+        }
+        return new JwtKeyRing(keys, signingKey);
+    }
+
+    /**
+     * Returns all keys, including private parts.
+     *
+     * @return keys
+     */
+    public JWKSet getKeys() {
+        return keys;
+    }
+
+    /**
+     * Returns the public parts of all keys.
+     *
+     * @return public keys
+     */
+    public JWKSet getPublicKeys() {
+        return keys.toPublicJWKSet();
+    }
+
+    /**
+     * Returns the ID of the key that signs new tokens.
+     *
+     * @return key ID
+     */
+    public String getSigningKeyId() {
+        return signingKey.getKeyID();
+    }
+
+    /**
+     * Returns the algorithm new tokens are signed with.
+     *
+     * @return signature algorithm
+     */
+    public SignatureAlgorithm getSigningAlgorithm() {
+        return signingAlgorithm;
+    }
+
+    /**
+     * Returns the algorithms of all keys.
+     *
+     * @return algorithms accepted when verifying
+     */
+    public Set<JWSAlgorithm> getVerificationAlgorithms() {
+        var algorithms = new LinkedHashSet<JWSAlgorithm>();
+        keys.getKeys().forEach(key -> algorithms.add(algorithmOf(key)));
+        return algorithms;
+    }
+
+    private static JWSAlgorithm algorithmOf(JWK key) {
+        if (key instanceof RSAKey) {
+            return JWSAlgorithm.RS256;
+        }
+        if (key instanceof ECKey ec) {
+            if (Curve.P_256.equals(ec.getCurve())) {
+                return JWSAlgorithm.ES256;
+            }
+            if (Curve.P_384.equals(ec.getCurve())) {
+                return JWSAlgorithm.ES384;
+            }
+            if (Curve.P_521.equals(ec.getCurve())) {
+                return JWSAlgorithm.ES512;
+            }
+        }
+        throw new IllegalStateException("Unsupported JWT key " + key.getKeyID() + " of type " + key.getKeyType());
+    }
+}
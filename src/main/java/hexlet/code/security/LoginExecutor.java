@@ -0,0 +1,85 @@
+package hexlet.code.security;
+
+import hexlet.code.exception.RetryLaterException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Dedicated pool for password verification on login.
+ * <p>
+ * BCrypt is CPU-bound, so the pool has one thread per core by default and a bounded queue.
+ * When the queue is full new logins are rejected with {@code 503} and {@code Retry-After}
+ * instead of occupying request threads, which keeps the rest of the API responsive during
+ * login bursts. Pool and queue sizes are published as {@code executor.*} metrics with
+ * {@code name=login}.
+ * </p>
+ * <p>
+ * Not exposed as an {@link java.util.concurrent.Executor} bean, so it is never picked up
+ * for {@code @Async} or MVC async processing.
+ * </p>
+ * <p>
+ * The threads stay platform threads when {@code spring.threads.virtual.enabled} is on.
+ * Virtual threads would remove the bound on concurrent hashing and let a login burst occupy
+ * every carrier thread; here the request thread only waits on the returned future, which
+ * parks a virtual thread without pinning it.
+ * </p>
+ */
+@Component
+public class LoginExecutor implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final Duration retryAfter;
+
+    public LoginExecutor(@Value("${app.login.pool-size:0}") int poolSize,
+                         @Value("${app.login.queue-capacity:100}") int queueCapacity,
+                         @Value("${app.login.retry-after-seconds:1}") int retryAfterSeconds,
+                         ObjectProvider<MeterRegistry> meterRegistry) {
+        var threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("login-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.retryAfter = Duration.ofSeconds(retryAfterSeconds);
+        meterRegistry.ifAvailable(registry ->
+                new ExecutorServiceMetrics(executor, "login", List.of()).bindTo(registry));
+    }
+
+    /**
+     * Runs a login task on the pool.
+     *
+     * @param task the task to run
+     * @param <T>  result type
+     * @return future completed with the task result
+     * @throws RetryLaterException with {@code 503} if the pool and its queue are full
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            throw new RetryLaterException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Too many login requests, try again later", retryAfter);
+        }
+    }
+
+    /**
+     * Stops accepting logins and lets queued ones finish.
+     */
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
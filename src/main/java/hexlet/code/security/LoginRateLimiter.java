@@ -0,0 +1,98 @@
+package hexlet.code.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import hexlet.code.exception.RetryLaterException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fixed-window rate limits for {@code /api/login}.
+ * <p>
+ * Limits all attempts per client IP and failed attempts per username, so that neither a
+ * single client nor a password-guessing run against one account can flood the login pool.
+ * Counters live in memory and are not shared between instances.
+ * </p>
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final long MAX_TRACKED_KEYS = 100_000;
+
+    private final int maxAttemptsPerIp;
+    private final int maxFailuresPerUsername;
+    private final Duration window;
+    private final Cache<String, Window> attemptsByIp;
+    private final Cache<String, Window> failuresByUsername;
+
+    public LoginRateLimiter(@Value("${app.login.rate-limit.per-ip:30}") int maxAttemptsPerIp,
+                            @Value("${app.login.rate-limit.per-username:10}") int maxFailuresPerUsername,
+                            @Value("${app.login.rate-limit.window-seconds:60}") int windowSeconds) {
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+        this.maxFailuresPerUsername = maxFailuresPerUsername;
+        this.window = Duration.ofSeconds(windowSeconds);
+        this.attemptsByIp = newCounterCache(window);
+        this.failuresByUsername = newCounterCache(window);
+    }
+
+    /**
+     * Registers a login attempt and checks both limits.
+     *
+     * @param ip       client IP address
+     * @param username username from the request, may be null
+     * @throws RetryLaterException with {@code 429} if a limit is exceeded
+     */
+    public void checkAttempt(String ip, String username) {
+        var ipWindow = attemptsByIp.get(ip, key -> new Window(System.nanoTime()));
+        if (ipWindow.count().incrementAndGet() > maxAttemptsPerIp) {
+            throw tooManyRequests(ipWindow);
+        }
+        if (username != null) {
+            var userWindow = failuresByUsername.getIfPresent(normalize(username));
+            if (userWindow != null && userWindow.count().get() >= maxFailuresPerUsername) {
+                throw tooManyRequests(userWindow);
+            }
+        }
+    }
+
+    /**
+     * Registers a failed login for the username.
+     *
+     * @param username username from the request, may be null
+     */
+    public void recordFailure(String username) {
+        if (username != null) {
+            failuresByUsername.get(normalize(username), key -> new Window(System.nanoTime()))
+                    .count()
+                    .incrementAndGet();
+        }
+    }
+
+    private RetryLaterException tooManyRequests(Window current) {
+        var elapsed = Duration.ofNanos(System.nanoTime() - current.startNanos());
+        return new RetryLaterException(HttpStatus.TOO_MANY_REQUESTS,
+                "Too many login attempts, try again later", window.minus(elapsed));
+    }
+
+    private static String normalize(String username) {
+        return username.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Cache<String, Window> newCounterCache(Duration window) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(MAX_TRACKED_KEYS)
+                .build();
+    }
+
+    private record Window(long startNanos, AtomicInteger count) {
+        Window(long startNanos) {
+            this(startNanos, new AtomicInteger());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package hexlet.code.security;
+
+import hexlet.code.component.BearerTokenProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.oauth2.server.resource.web.BearerTokenResolver;
+import org.springframework.security.oauth2.server.resource.web.DefaultBearerTokenResolver;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+
+/**
+ * Resolves the bearer token with options chosen by request path.
+ * <p>
+ * By default only the {@code Authorization} header is read. The {@code access_token} query parameter
+ * and form body parameter are accepted only on the configured paths, so other requests never have their
+ * form body parsed. Ignored paths (Swagger UI and API docs) are never authenticated by token.
+ * Patterns are parsed once at startup. Malformed or duplicated tokens are not swallowed and end in
+ * {@code 401} like any other invalid token.
+ * </p>
+ */
+public final class PathBearerTokenResolver implements BearerTokenResolver {
+
+    private final List<PathPattern> ignoredPaths;
+    private final List<PathPattern> queryParameterPaths;
+    private final List<PathPattern> formBodyPaths;
+    private final BearerTokenResolver[] resolvers = new BearerTokenResolver[4];
+
+    public PathBearerTokenResolver(BearerTokenProperties properties) {
+        this.ignoredPaths = parse(properties.getIgnoredPaths());
+        this.queryParameterPaths = parse(properties.getQueryParameterPaths());
+        this.formBodyPaths = parse(properties.getFormBodyPaths());
+        for (int i = 0; i < resolvers.length; i++) {
+            var resolver = new DefaultBearerTokenResolver();
+            resolver.setAllowUriQueryParameter((i & 1) != 0);
+            resolver.setAllowFormEncodedBodyParameter((i & 2) != 0);
+            resolvers[i] = resolver;
+        }
+    }
+
+    @Override
+    public String resolve(HttpServletRequest request) {
+        var path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        if (matches(ignoredPaths, path)) {
+            return null;
+        }
+        var index = (matches(queryParameterPaths, path) ? 1 : 0) | (matches(formBodyPaths, path) ? 2 : 0);
+        return resolvers[index].resolve(request);
+    }
+
+    private static List<PathPattern> parse(List<String> patterns) {
+        return patterns.stream().map(PathPatternParser.defaultInstance::parse).toList();
+    }
+
+    private static boolean matches(List<PathPattern> patterns, PathContainer path) {
+        for (var pattern : patterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,89 @@
+package hexlet.code.security;
+
+import hexlet.code.model.RevokedToken;
+import hexlet.code.repository.RevokedTokenRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Persistent revocations, shared by all application instances and kept across restarts.
+ * <p>
+ * Refresh tokens are checked only here: using one inserts its ID, and the primary key lets exactly
+ * one request on any instance succeed. That is one insert per {@code /api/auth/refresh} call.
+ * Access tokens are checked on every request, so they are looked up in the in-memory
+ * {@link TokenRevocationList}; their revocations are stored here too and loaded into that list on
+ * startup. An access token revoked on another instance is not rejected by this one until it restarts
+ * or the token expires.
+ * </p>
+ */
+@Component
+public final class RevokedTokenStore {
+
+    private static final Duration PURGE_INTERVAL = Duration.ofMinutes(1);
+
+    private final RevokedTokenRepository repository;
+    private final TokenRevocationList revocationList;
+    private final AtomicReference<Instant> nextPurge = new AtomicReference<>(Instant.now().plus(PURGE_INTERVAL));
+
+    public RevokedTokenStore(RevokedTokenRepository repository, TokenRevocationList revocationList) {
+        this.repository = repository;
+        this.revocationList = revocationList;
+        var now = Instant.now();
+        repository.deleteExpired(now);
+        for (var token : repository.findByRefreshTokenFalseAndExpiresAtAfter(now)) {
+            revocationList.revoke(token.getJti(), token.getExpiresAt());
+        }
+    }
+
+    /**
+     * Marks a refresh token as used or revoked.
+     *
+     * @param jti       token ID
+     * @param expiresAt token expiry; already expired tokens are ignored
+     * @return true if the token was revoked by this call, false if it was already revoked or expired
+     */
+    public boolean revokeRefreshToken(String jti, Instant expiresAt) {
+        var now = Instant.now();
+        if (expiresAt.isBefore(now)) {
+            return false;
+        }
+        try {
+            repository.saveAndFlush(new RevokedToken(jti, expiresAt, true));
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+        purgeIfDue(now);
+        return true;
+    }
+
+    /**
+     * Revokes an access token on this instance immediately and on the others after their restart.
+     *
+     * @param jti       token ID
+     * @param expiresAt token expiry; already expired tokens are ignored
+     * @return true if the token was revoked by this call, false if it was already revoked or expired
+     */
+    public boolean revokeAccessToken(String jti, Instant expiresAt) {
+        if (!revocationList.revoke(jti, expiresAt)) {
+            return false;
+        }
+        try {
+            repository.saveAndFlush(new RevokedToken(jti, expiresAt, false));
+        } catch (DataIntegrityViolationException e) {
+            // Revoked on another instance
+        }
+        return true;
+    }
+
+    // One caller per interval deletes the rows of expired tokens
+    private void purgeIfDue(Instant now) {
+        var due = nextPurge.get();
+        if (now.isAfter(due) && nextPurge.compareAndSet(due, now.plus(PURGE_INTERVAL))) {
+            repository.deleteExpired(now);
+        }
+    }
+}
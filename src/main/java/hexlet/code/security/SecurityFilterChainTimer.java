@@ -0,0 +1,77 @@
+package hexlet.code.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.Filter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time spent in the security filter chain.
+ * <p>
+ * {@link #start()} goes first in the chain and {@link #end()} right after authorization. Requests that
+ * reach the end are recorded as {@code security.filter.chain{outcome=authorized}} with the time up to
+ * that point; requests stopped by security (for example with {@code 401}) are recorded as
+ * {@code outcome=rejected}. Only the first dispatch of a request is measured.
+ * </p>
+ */
+public final class SecurityFilterChainTimer {
+
+    private static final String START_ATTRIBUTE = SecurityFilterChainTimer.class.getName() + ".start";
+    private static final String RECORDED_ATTRIBUTE = SecurityFilterChainTimer.class.getName() + ".recorded";
+
+    private final Timer authorized;
+    private final Timer rejected;
+
+    public SecurityFilterChainTimer(MeterRegistry registry) {
+        this.authorized = timer(registry, "authorized");
+        this.rejected = timer(registry, "rejected");
+    }
+
+    /**
+     * Returns the filter that starts the measurement.
+     *
+     * @return filter to put first in the security chain
+     */
+    public Filter start() {
+        return (request, response, chain) -> {
+            if (request.getAttribute(START_ATTRIBUTE) != null) {
+                chain.doFilter(request, response);
+                return;
+            }
+            long start = System.nanoTime();
+            request.setAttribute(START_ATTRIBUTE, start);
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                if (request.getAttribute(RECORDED_ATTRIBUTE) == null) {
+                    request.setAttribute(RECORDED_ATTRIBUTE, Boolean.TRUE);
+                    rejected.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns the filter that ends the measurement.
+     *
+     * @return filter to put after the authorization filter
+     */
+    public Filter end() {
+        return (request, response, chain) -> {
+            if (request.getAttribute(RECORDED_ATTRIBUTE) == null
+                    && request.getAttribute(START_ATTRIBUTE) instanceof Long start) {
+                request.setAttribute(RECORDED_ATTRIBUTE, Boolean.TRUE);
+                authorized.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            chain.doFilter(request, response);
+        };
+    }
+
+    private static Timer timer(MeterRegistry registry, String outcome) {
+        return Timer.builder("security.filter.chain")
+                .description("Time spent in the security filter chain")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
@@ -0,0 +1,142 @@
+package hexlet.code.security;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory list of revoked access token IDs ({@code jti}).
+ * <p>
+ * Checked on every authenticated request, so the lookup must be cheap and never touch the database.
+ * A Bloom filter answers "not revoked" for almost every token with a few bit reads; only on a
+ * filter hit is the exact set consulted. Entries are kept until the token would have expired anyway,
+ * and the filter is rebuilt from the exact set when expired entries are purged.
+ * Revocations are persisted by {@link RevokedTokenStore}, which loads them into this list
+ * on startup; revocations made on another instance after that are not seen here.
+ * Refresh tokens are not tracked here: they are checked against the database when used.
+ * Writers are serialized with a {@link ReentrantLock} rather than {@code synchronized},
+ * which would pin a virtual thread to its carrier while it waits.
+ * </p>
+ */
+@Component
+public class TokenRevocationList {
+
+    private static final int FILTER_BITS = 1 << 20;
+    private static final int FILTER_HASHES = 4;
+    private static final Duration PURGE_INTERVAL = Duration.ofMinutes(1);
+
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile BloomFilter filter = new BloomFilter(FILTER_BITS, FILTER_HASHES);
+    private Instant nextPurge = Instant.now().plus(PURGE_INTERVAL);
+
+    /**
+     * Checks whether the token ID has been revoked.
+     *
+     * @param jti token ID
+     * @return true if the token is revoked
+     */
+    public boolean isRevoked(String jti) {
+        return filter.mightContain(jti) && revoked.containsKey(jti);
+    }
+
+    /**
+     * Revokes a token until its expiry.
+     * <p>
+     * Checking and adding the token ID is one atomic step, so of concurrent callers
+     * revoking the same token exactly one gets {@code true}.
+     * </p>
+     *
+     * @param jti       token ID
+     * @param expiresAt token expiry; already expired tokens are ignored
+     * @return true if the token was revoked by this call, false if it was already revoked or expired
+     */
+    public boolean revoke(String jti, Instant expiresAt) {
+        var now = Instant.now();
+        if (expiresAt.isBefore(now)) {
+            return false;
+        }
+        writeLock.lock();
+        try {
+            if (revoked.putIfAbsent(jti, expiresAt) != null) {
+                return false;
+            }
+            filter.add(jti);
+            if (now.isAfter(nextPurge)) {
+                purge(now);
+            }
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of tracked revoked tokens.
+     *
+     * @return number of entries
+     */
+    public int size() {
+        return revoked.size();
+    }
+
+    private void purge(Instant now) {
+        revoked.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+        var rebuilt = new BloomFilter(FILTER_BITS, FILTER_HASHES);
+        revoked.keySet().forEach(rebuilt::add);
+        filter = rebuilt;
+        nextPurge = now.plus(PURGE_INTERVAL);
+    }
+
+    /**
+     * Bloom filter over strings using double hashing of a 64-bit mix of {@link String#hashCode()}.
+     */
+    private static final class BloomFilter {
+        private final AtomicLongArray words;
+        private final int bits;
+        private final int hashes;
+
+        BloomFilter(int bits, int hashes) {
+            this.words = new AtomicLongArray(bits / Long.SIZE);
+            this.bits = bits;
+            this.hashes = hashes;
+        }
+
+        void add(String value) {
+            var hash = mix(value.hashCode());
+            for (int i = 0; i < hashes; i++) {
+                var bit = index(hash, i);
+                var mask = 1L << bit;
+                words.getAndUpdate(bit / Long.SIZE, word -> word | mask);
+            }
+        }
+
+        boolean mightContain(String value) {
+            var hash = mix(value.hashCode());
+            for (int i = 0; i < hashes; i++) {
+                var bit = index(hash, i);
+                if ((words.get(bit / Long.SIZE) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int index(long hash, int i) {
+            var h1 = (int) hash;
+            var h2 = (int) (hash >>> 32);
+            return Math.floorMod(h1 + i * h2, bits);
+        }
+
+        private static long mix(long z) {
+            z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+            z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+            return z ^ (z >>> 33);
+        }
+    }
+}
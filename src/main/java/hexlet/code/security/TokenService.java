@@ -0,0 +1,113 @@
+package hexlet.code.security;
+
+import hexlet.code.dto.TokenPairResponse;
+import hexlet.code.model.User;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.util.JWTUtils;
+import hexlet.code.util.UserUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Issues, rotates and revokes access/refresh token pairs.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenService {
+
+    private final JWTUtils jwtUtils;
+    private final JwtDecoder jwtDecoder;
+    private final RevokedTokenStore revokedTokens;
+    private final UserRepository userRepository;
+    private final UserUtils userUtils;
+
+    /**
+     * Issues a new token pair for an authenticated user.
+     *
+     * @param user the user
+     * @return access and refresh tokens
+     */
+    public TokenPairResponse issue(User user) {
+        var email = user.getUsername();
+        var admin = userUtils.isAdmin(email);
+        return new TokenPairResponse(
+                jwtUtils.generateToken(email, user.getId(), admin),
+                jwtUtils.generateRefreshToken(email, user.getId(), admin),
+                "Bearer",
+                jwtUtils.getAccessTokenTtl().toSeconds());
+    }
+
+    /**
+     * Exchanges a refresh token for a new token pair.
+     * The refresh token is revoked, so each one can be used only once; of concurrent requests
+     * with the same token only the one that revokes it gets a new pair, on any instance.
+     * The used token is recorded in the database by {@link RevokedTokenStore}, so it stays used after a restart.
+     *
+     * @param refreshToken the refresh token
+     * @return new access and refresh tokens
+     * @throws ResponseStatusException with {@code 401} if the token is invalid, revoked or not a refresh token
+     */
+    public TokenPairResponse refresh(String refreshToken) {
+        var jwt = decodeRefreshToken(refreshToken);
+        if (!revoke(jwt)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token");
+        }
+        Number userId = jwt.getClaim(JWTUtils.USER_ID_CLAIM);
+        var user = userId == null ? null : userRepository.findById(userId.longValue()).orElse(null);
+        if (user == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token");
+        }
+        return issue(user);
+    }
+
+    /**
+     * Revokes a refresh token. Invalid tokens are ignored.
+     *
+     * @param refreshToken the refresh token
+     */
+    public void revokeRefreshToken(String refreshToken) {
+        try {
+            revoke(decodeRefreshToken(refreshToken));
+        } catch (ResponseStatusException e) {
+            // Already unusable
+        }
+    }
+
+    /**
+     * Revokes a decoded token until its expiry.
+     * Refresh tokens are recorded in the database only; access tokens also in memory.
+     *
+     * @param jwt the token
+     * @return true if the token was revoked by this call, false if it was already revoked,
+     *         expired or has no ID
+     */
+    public boolean revoke(Jwt jwt) {
+        if (jwt.getId() == null || jwt.getExpiresAt() == null) {
+            return false;
+        }
+        return JWTUtils.REFRESH_TOKEN.equals(jwt.getClaimAsString(JWTUtils.TOKEN_TYPE_CLAIM))
+                ? revokedTokens.revokeRefreshToken(jwt.getId(), jwt.getExpiresAt())
+                : revokedTokens.revokeAccessToken(jwt.getId(), jwt.getExpiresAt());
+    }
+
+    private Jwt decodeRefreshToken(String token) {
+        if (token == null || token.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token");
+        }
+        Jwt jwt;
+        try {
+            jwt = jwtDecoder.decode(token);
+        } catch (JwtException e) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token");
+        }
+        if (!JWTUtils.REFRESH_TOKEN.equals(jwt.getClaimAsString(JWTUtils.TOKEN_TYPE_CLAIM))) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token");
+        }
+        return jwt;
+    }
+}
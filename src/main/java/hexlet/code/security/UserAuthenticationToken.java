@@ -0,0 +1,34 @@
+package hexlet.code.security;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.Collection;
+
+/**
+ * Authentication built from a verified JWT, with an {@link AuthenticatedUser} as principal.
+ */
+public final class UserAuthenticationToken extends AbstractAuthenticationToken {
+
+    private final AuthenticatedUser principal;
+    private final Jwt token;
+
+    public UserAuthenticationToken(AuthenticatedUser principal, Jwt token,
+                                   Collection<? extends GrantedAuthority> authorities) {
+        super(authorities);
+        this.principal = principal;
+        this.token = token;
+        setAuthenticated(true);
+    }
+
+    @Override
+    public AuthenticatedUser getPrincipal() {
+        return principal;
+    }
+
+    @Override
+    public Jwt getCredentials() {
+        return token;
+    }
+}
@@ -0,0 +1,37 @@
+package hexlet.code.security;
+
+import hexlet.code.util.JWTUtils;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Converts a verified JWT into a {@link UserAuthenticationToken}.
+ * <p>
+ * Reads the {@code uid} and {@code admin} claims written by {@link JWTUtils}.
+ * Admins get the {@code ROLE_ADMIN} authority. Refresh tokens are rejected:
+ * they are only accepted by {@code /api/auth/refresh}.
+ * </p>
+ */
+@Component
+public final class UserJwtAuthenticationConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+
+    private static final List<GrantedAuthority> ADMIN_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
+
+    @Override
+    public AbstractAuthenticationToken convert(Jwt jwt) {
+        if (JWTUtils.REFRESH_TOKEN.equals(jwt.getClaimAsString(JWTUtils.TOKEN_TYPE_CLAIM))) {
+            throw new InvalidBearerTokenException("Refresh tokens cannot be used to access the API");
+        }
+        Number userId = jwt.getClaim(JWTUtils.USER_ID_CLAIM);
+        var admin = Boolean.TRUE.equals(jwt.getClaimAsBoolean(JWTUtils.ADMIN_CLAIM));
+        var principal = new AuthenticatedUser(userId == null ? null : userId.longValue(), jwt.getSubject(), admin);
+        return new UserAuthenticationToken(principal, jwt, admin ? ADMIN_AUTHORITIES : List.<GrantedAuthority>of());
+    }
+}
@@ -1,16 +1,18 @@
 package hexlet.code.service;
 
 
+import hexlet.code.model.User;
 import hexlet.code.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
-public final class CustomUserDetailsService implements UserDetailsService {
+public final class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -19,4 +21,22 @@ public final class CustomUserDetailsService implements UserDetailsService {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
     }
+
+    /**
+     * Stores a rehashed password after a successful login with an outdated hash.
+     * Only the password column is updated.
+     *
+     * @param user        the authenticated user
+     * @param newPassword the password encoded with the current settings
+     * @return the user with the new password
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
+        if (user instanceof User entity) {
+            entity.setPassword(newPassword);
+            return entity;
+        }
+        return loadUserByUsername(user.getUsername());
+    }
 }
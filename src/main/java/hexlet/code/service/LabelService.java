@@ -1,10 +1,15 @@
 package hexlet.code.service;
 
 import hexlet.code.dto.LabelDto;
+import org.springframework.data.domain.Pageable;
 
 public interface LabelService {
     java.util.List<LabelDto> getAll();
 
+    java.util.List<LabelDto> getAll(Pageable pageable);
+
+    long count();
+
     LabelDto getById(Long id);
 
     LabelDto create(LabelDto dto);
@@ -0,0 +1,16 @@
+package hexlet.code.service;
+
+import hexlet.code.dto.BulkResultDto;
+import hexlet.code.dto.TaskDto;
+
+import java.util.List;
+
+public interface TaskBulkService {
+
+    List<BulkResultDto> createAll(List<TaskDto> dtos);
+
+    List<BulkResultDto> updateAll(List<TaskDto> dtos);
+
+    List<BulkResultDto> deleteAll(List<Long> ids);
+
+}
@@ -1,20 +1,31 @@
 package hexlet.code.service;
 
 import hexlet.code.dto.TaskDto;
+import hexlet.code.dto.TaskPageDto;
 import hexlet.code.dto.TaskParamsDto;
+import hexlet.code.dto.TotalCount;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface TaskService {
 
     List<TaskDto> getAll(TaskParamsDto params);
 
+    TaskPageDto getPage(TaskParamsDto params);
+
+    TotalCount count(TaskParamsDto params);
+
+    void streamAll(TaskParamsDto params, Consumer<TaskDto> consumer);
+
     TaskDto getById(Long id);
 
     TaskDto create(TaskDto dto);
 
     TaskDto update(Long id, TaskDto dto);
 
+    TaskDto changeStatus(Long id, TaskDto dto);
+
     void delete(Long id);
 
 }
@@ -1,11 +1,17 @@
 package hexlet.code.service;
 
 import hexlet.code.dto.TaskStatusDto;
+import org.springframework.data.domain.Pageable;
+
 import java.util.List;
 
 public interface TaskStatusService {
     List<TaskStatusDto> getAll();
 
+    List<TaskStatusDto> getAll(Pageable pageable);
+
+    long count();
+
     TaskStatusDto findById(Long id);
 
     TaskStatusDto create(TaskStatusDto dto);
@@ -1,12 +1,18 @@
 package hexlet.code.service;
 
 import hexlet.code.dto.UserDto;
+import org.springframework.data.domain.Pageable;
+
 import java.util.List;
 
 public interface UserService {
 
     List<UserDto> getAllUsers();
 
+    List<UserDto> getAllUsers(Pageable pageable);
+
+    long countUsers();
+
     UserDto getUser(Long id);
 
     UserDto createUser(UserDto dto);
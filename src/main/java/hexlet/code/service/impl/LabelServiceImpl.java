@@ -1,10 +1,13 @@
 package hexlet.code.service.impl;
 
+import hexlet.code.component.CollectionVersions;
+import hexlet.code.component.ReferenceDataCache;
 import hexlet.code.dto.LabelDto;
 import hexlet.code.mapper.LabelMapper;
 import hexlet.code.repository.LabelRepository;
 import hexlet.code.service.LabelService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
@@ -17,6 +20,8 @@ public final class LabelServiceImpl implements LabelService {
 
     private final LabelRepository repository;
     private final LabelMapper mapper;
+    private final ReferenceDataCache referenceDataCache;
+    private final CollectionVersions collectionVersions;
 
     @Override
     public List<LabelDto> getAll() {
@@ -25,6 +30,18 @@ public final class LabelServiceImpl implements LabelService {
                 .toList();
     }
 
+    @Override
+    public List<LabelDto> getAll(Pageable pageable) {
+        return repository.findAllBy(pageable).stream()
+                .map(mapper::toDto)
+                .toList();
+    }
+
+    @Override
+    public long count() {
+        return repository.count();
+    }
+
     @Override
     public LabelDto getById(Long id) {
         var label = repository.findById(id)
@@ -36,6 +53,7 @@ public final class LabelServiceImpl implements LabelService {
     public LabelDto create(LabelDto dto) {
         var entity = mapper.toEntity(dto);
         var saved = repository.save(entity);
+        collectionVersions.bump(CollectionVersions.Collection.LABELS);
         return mapper.toDto(saved);
     }
 
@@ -45,6 +63,8 @@ public final class LabelServiceImpl implements LabelService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Label not found"));
         mapper.update(dto, label);
         repository.save(label);
+        referenceDataCache.evictLabel(id);
+        collectionVersions.bump(CollectionVersions.Collection.LABELS);
         return mapper.toDto(label);
     }
 
@@ -53,5 +73,7 @@ public final class LabelServiceImpl implements LabelService {
         var label = repository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Label not found"));
         repository.delete(label);
+        referenceDataCache.evictLabel(id);
+        collectionVersions.bump(CollectionVersions.Collection.LABELS);
     }
 }
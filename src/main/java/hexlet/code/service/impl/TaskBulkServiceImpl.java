@@ -0,0 +1,332 @@
+package hexlet.code.service.impl;
+
+import hexlet.code.component.CollectionVersions;
+import hexlet.code.component.ReferenceDataCache;
+import hexlet.code.dto.BulkResultDto;
+import hexlet.code.dto.TaskDto;
+import hexlet.code.mapper.TaskMapper;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.service.TaskBulkService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates, updates and deletes many tasks in one transaction.
+ * <p>
+ * References of all items are resolved up front with one query per type
+ * (statuses, labels, assignees), and the writes are flushed as JDBC batches.
+ * Invalid items are reported in the result with the status a single request
+ * would have received and do not prevent the other items from being written.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskBulkServiceImpl implements TaskBulkService {
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final TaskMapper taskMapper;
+    private final ReferenceDataCache referenceDataCache;
+    private final CollectionVersions collectionVersions;
+
+    @Value("${app.default-status:draft}")
+    private String defaultStatusSlug;
+
+    @Value("${app.tasks.bulk.max-size:1000}")
+    private int maxBulkSize;
+
+    /**
+     * Creates tasks. Items without a status get the default one.
+     *
+     * @param dtos tasks to create
+     * @return one result per item, in request order
+     */
+    @Override
+    @Transactional
+    public List<BulkResultDto> createAll(List<TaskDto> dtos) {
+        checkSize(dtos);
+        var references = resolveReferences(dtos, true);
+        var results = new BulkResultDto[dtos.size()];
+        var created = new LinkedHashMap<Integer, Task>();
+
+        for (int i = 0; i < dtos.size(); i++) {
+            var dto = dtos.get(i);
+            try {
+                requireFields(dto);
+                var resolved = references.resolve(dto, true);
+                var entity = taskMapper.toEntityWithoutReferences(dto);
+                resolved.applyTo(entity);
+                created.put(i, entity);
+            } catch (ResponseStatusException e) {
+                results[i] = BulkResultDto.failure(i, null, e);
+            }
+        }
+
+        taskRepository.saveAll(created.values());
+        created.forEach((i, task) -> results[i] = BulkResultDto.success(i, HttpStatus.CREATED,
+                taskMapper.toDto(task)));
+        collectionVersions.bump(CollectionVersions.Collection.TASKS);
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Applies partial updates to tasks identified by {@code id}.
+     * Fields that are {@code null} in an item are left unchanged.
+     *
+     * @param dtos task changes, each with an ID
+     * @return one result per item, in request order
+     */
+    @Override
+    @Transactional
+    public List<BulkResultDto> updateAll(List<TaskDto> dtos) {
+        checkSize(dtos);
+        var ids = dtos.stream()
+                .filter(Objects::nonNull)
+                .map(TaskDto::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        var tasks = findTasks(ids);
+        var references = resolveReferences(dtos, false);
+        var results = new BulkResultDto[dtos.size()];
+        var updated = new LinkedHashMap<Integer, Task>();
+
+        for (int i = 0; i < dtos.size(); i++) {
+            var dto = dtos.get(i);
+            var id = dto == null ? null : dto.getId();
+            try {
+                if (id == null) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Task id is required");
+                }
+                var task = tasks.get(id);
+                if (task == null) {
+                    throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found");
+                }
+                if (dto.getVersion() != null && !dto.getVersion().equals(task.getVersion())) {
+                    throw new ResponseStatusException(HttpStatus.CONFLICT, "Task was modified by another request");
+                }
+                if (dto.getTitle() != null && dto.getTitle().isBlank()) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Title must not be blank");
+                }
+                // Resolve before touching the managed entity so a failed item leaves no changes behind
+                var resolved = references.resolve(dto, false);
+                taskMapper.updateWithoutReferences(dto, task);
+                resolved.applyTo(task);
+                updated.put(i, task);
+            } catch (ResponseStatusException e) {
+                results[i] = BulkResultDto.failure(i, id, e);
+            }
+        }
+
+        // Flush first so the results carry the incremented versions
+        taskRepository.flush();
+        updated.forEach((i, task) -> results[i] = BulkResultDto.success(i, HttpStatus.OK, taskMapper.toDto(task)));
+        collectionVersions.bump(CollectionVersions.Collection.TASKS);
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Deletes tasks by ID.
+     *
+     * @param ids IDs of tasks to delete
+     * @return one result per item, in request order
+     */
+    @Override
+    @Transactional
+    public List<BulkResultDto> deleteAll(List<Long> ids) {
+        checkSize(ids);
+        var tasks = findTasks(ids.stream().filter(Objects::nonNull).collect(Collectors.toSet()));
+        var results = new ArrayList<BulkResultDto>(ids.size());
+        var deleted = new ArrayList<Task>();
+
+        for (int i = 0; i < ids.size(); i++) {
+            var id = ids.get(i);
+            if (id == null) {
+                results.add(BulkResultDto.failure(i, null,
+                        new ResponseStatusException(HttpStatus.BAD_REQUEST, "Task id is required")));
+                continue;
+            }
+            var task = tasks.remove(id);
+            if (task == null) {
+                results.add(BulkResultDto.failure(i, id,
+                        new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found")));
+                continue;
+            }
+            deleted.add(task);
+            results.add(BulkResultDto.deleted(i, id));
+        }
+
+        taskRepository.deleteAll(deleted);
+        collectionVersions.bump(CollectionVersions.Collection.TASKS);
+        return results;
+    }
+
+    private void checkSize(List<?> items) {
+        if (items.size() > maxBulkSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Bulk request must not contain more than " + maxBulkSize + " items");
+        }
+    }
+
+    private static void requireFields(TaskDto dto) {
+        if (dto == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Task is required");
+        }
+        if (dto.getTitle() == null || dto.getTitle().isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Title is required");
+        }
+        if (dto.getContent() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Content is required");
+        }
+    }
+
+    private Map<Long, Task> findTasks(Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+        return taskRepository.findByIdIn(ids, Sort.unsorted()).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    private References resolveReferences(List<TaskDto> dtos, boolean create) {
+        var statusIds = new HashSet<Long>();
+        var statusSlugs = new HashSet<String>();
+        var labelIds = new HashSet<Long>();
+        var assigneeIds = new HashSet<Long>();
+
+        for (var dto : dtos) {
+            if (dto == null) {
+                continue;
+            }
+            if (dto.getStatusId() != null) {
+                statusIds.add(dto.getStatusId());
+            } else if (dto.getStatus() != null && !dto.getStatus().isBlank()) {
+                statusSlugs.add(dto.getStatus());
+            } else if (create) {
+                statusSlugs.add(defaultStatusSlug);
+            }
+            if (dto.getLabelIds() != null) {
+                labelIds.addAll(dto.getLabelIds());
+            }
+            if (dto.getAssigneeId() != null) {
+                assigneeIds.add(dto.getAssigneeId());
+            }
+        }
+
+        var statuses = statusIds.isEmpty() && statusSlugs.isEmpty()
+                ? List.<TaskStatus>of()
+                : referenceDataCache.findStatuses(statusIds, statusSlugs);
+        var labels = labelIds.isEmpty() ? Set.<Label>of() : referenceDataCache.findLabelsByIds(labelIds);
+        var existingAssignees = assigneeIds.isEmpty() ? Set.<Long>of() : userRepository.findExistingIds(assigneeIds);
+
+        return new References(
+                statuses.stream().collect(Collectors.toMap(TaskStatus::getId, Function.identity(), (a, b) -> a)),
+                statuses.stream().collect(Collectors.toMap(TaskStatus::getSlug, Function.identity(), (a, b) -> a)),
+                labels.stream().collect(Collectors.toMap(Label::getId, Function.identity())),
+                existingAssignees);
+    }
+
+    /**
+     * References loaded for all items of a bulk request, looked up per item without further queries.
+     */
+    private final class References {
+        private final Map<Long, TaskStatus> statusesById;
+        private final Map<String, TaskStatus> statusesBySlug;
+        private final Map<Long, Label> labelsById;
+        private final Set<Long> assigneeIds;
+
+        References(Map<Long, TaskStatus> statusesById, Map<String, TaskStatus> statusesBySlug,
+                   Map<Long, Label> labelsById, Set<Long> assigneeIds) {
+            this.statusesById = statusesById;
+            this.statusesBySlug = statusesBySlug;
+            this.labelsById = labelsById;
+            this.assigneeIds = assigneeIds;
+        }
+
+        Resolved resolve(TaskDto dto, boolean create) {
+            return new Resolved(resolveStatus(dto, create), resolveAssignee(dto.getAssigneeId()),
+                    resolveLabels(dto.getLabelIds()));
+        }
+
+        private TaskStatus resolveStatus(TaskDto dto, boolean create) {
+            if (dto.getStatusId() != null) {
+                return require(statusesById.get(dto.getStatusId()),
+                        "Task status with id " + dto.getStatusId() + " not found");
+            }
+            if (dto.getStatus() != null && !dto.getStatus().isBlank()) {
+                return require(statusesBySlug.get(dto.getStatus()), "Task status '" + dto.getStatus() + "' not found");
+            }
+            if (create) {
+                return require(statusesBySlug.get(defaultStatusSlug),
+                        "Default status '" + defaultStatusSlug + "' not found");
+            }
+            return null;
+        }
+
+        private User resolveAssignee(Long id) {
+            if (id == null) {
+                return null;
+            }
+            if (!assigneeIds.contains(id)) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Assignee not found");
+            }
+            return userRepository.getReferenceById(id);
+        }
+
+        private Set<Label> resolveLabels(Collection<Long> ids) {
+            if (ids == null) {
+                return null;
+            }
+            var missing = ids.stream().filter(id -> !labelsById.containsKey(id)).collect(Collectors.toSet());
+            if (!missing.isEmpty()) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Labels not found for ids: " + missing);
+            }
+            return ids.stream().map(labelsById::get).collect(Collectors.toCollection(HashSet::new));
+        }
+
+        private static <T> T require(T value, String message) {
+            if (value == null) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, message);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * References of a single item; {@code null} means "leave unchanged".
+     */
+    private record Resolved(TaskStatus status, User assignee, Set<Label> labels) {
+        void applyTo(Task task) {
+            if (status != null) {
+                task.setStatus(status);
+            }
+            if (assignee != null) {
+                task.setAssignee(assignee);
+            }
+            if (labels != null) {
+                task.setLabels(labels);
+            }
+        }
+    }
+}
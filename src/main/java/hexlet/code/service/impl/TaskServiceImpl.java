@@ -1,36 +1,64 @@
 package hexlet.code.service.impl;
 
+import hexlet.code.component.CollectionVersions;
+import hexlet.code.component.ReferenceDataCache;
+import hexlet.code.component.RowCountEstimator;
+import hexlet.code.dto.TaskCursor;
 import hexlet.code.dto.TaskDto;
+import hexlet.code.dto.TaskPageDto;
 import hexlet.code.dto.TaskParamsDto;
+import hexlet.code.dto.TotalCount;
 import hexlet.code.mapper.TaskMapper;
 import hexlet.code.model.Task;
 import hexlet.code.repository.TaskRepository;
-import hexlet.code.repository.TaskStatusRepository;
 import hexlet.code.service.TaskService;
 import hexlet.code.spec.TaskSpecification;
 import hexlet.code.model.Label;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TaskServiceImpl implements TaskService {
 
+    private static final Sort KEYSET_ORDER = Sort.by(Sort.Order.asc("createdAt"), Sort.Order.asc("id"));
+
     private final TaskRepository taskRepository;
     private final TaskMapper taskMapper;
     private final TaskSpecification taskSpecification;
-    private final TaskStatusRepository statusRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final EntityManager entityManager;
+    private final RowCountEstimator rowCountEstimator;
+    private final CollectionVersions collectionVersions;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${app.default-status:draft}")
     private String defaultStatusSlug;
 
+    @Value("${app.tasks.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${app.tasks.page.max-size:200}")
+    private int maxPageSize;
+
+    @Value("${app.tasks.stream.fetch-size:500}")
+    private int streamFetchSize;
+
+    @Value("${app.tasks.status.max-attempts:3}")
+    private int statusMaxAttempts;
+
     /**
      * Retrieves all tasks that match the provided filtering parameters.
      * <p>
@@ -50,6 +78,87 @@ public class TaskServiceImpl implements TaskService {
                 .toList();
     }
 
+    /**
+     * Retrieves one page of tasks matching the filter, ordered by {@code (createdAt, id)}.
+     * <p>
+     * Uses keyset pagination: the page starts right after the {@code after} cursor,
+     * so the cost does not grow with the page position. The page size is taken from
+     * {@code limit} and clamped to the configured maximum.
+     * Tasks are selected first without the labels collection, so the database applies
+     * the limit, and then re-read by ID with all associations in a single query.
+     * </p>
+     *
+     * @param params DTO containing filter parameters and the page cursor
+     * @return page of {@link TaskDto} objects with the cursor of the next page, if any
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPageDto getPage(TaskParamsDto params) {
+        var limit = resolvePageSize(params.getLimit());
+        var spec = taskSpecification.build(params)
+                .and(taskSpecification.after(TaskCursor.decode(params.getAfter())));
+
+        var window = taskRepository.findBy(spec, query -> query
+                .sortBy(KEYSET_ORDER)
+                .project("status", "assignee")
+                .limit(limit + 1)
+                .all());
+
+        var hasNext = window.size() > limit;
+        var ids = window.stream()
+                .limit(limit)
+                .map(Task::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return new TaskPageDto(List.of(), null);
+        }
+
+        var tasks = taskRepository.findByIdIn(ids, KEYSET_ORDER);
+        var last = tasks.get(tasks.size() - 1);
+        var nextCursor = hasNext ? new TaskCursor(last.getCreatedAt(), last.getId()).encode() : null;
+
+        return new TaskPageDto(tasks.stream().map(taskMapper::toDto).toList(), nextCursor);
+    }
+
+    /**
+     * Counts tasks that match the filter without loading them.
+     * <p>
+     * Only the unfiltered count may be estimated from database statistics, see {@link RowCountEstimator}.
+     * </p>
+     *
+     * @param params DTO containing filter parameters
+     * @return number of matching tasks
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TotalCount count(TaskParamsDto params) {
+        if (taskSpecification.isUnfiltered(params)) {
+            return rowCountEstimator.count("tasks", taskRepository::count);
+        }
+        return TotalCount.exact(taskRepository.count(taskSpecification.build(params)));
+    }
+
+    /**
+     * Streams all tasks matching the filter to the consumer one by one, ordered by ID.
+     * <p>
+     * Rows are read from a database cursor and each task is detached after it has been
+     * handed to the consumer, so memory usage does not depend on the number of tasks.
+     * </p>
+     *
+     * @param params   DTO containing filter parameters
+     * @param consumer receiver of mapped tasks
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(TaskParamsDto params, Consumer<TaskDto> consumer) {
+        var spec = taskSpecification.build(params);
+        try (var tasks = taskRepository.streamAll(spec, streamFetchSize)) {
+            tasks.forEach(task -> {
+                consumer.accept(taskMapper.toDto(task));
+                entityManager.detach(task);
+            });
+        }
+    }
 
     /**
      * Retrieves a single task by its identifier.
@@ -84,6 +193,7 @@ public class TaskServiceImpl implements TaskService {
         var entity = taskMapper.toEntity(dto);
         applyDefaultStatusIfNull(entity);
         var saved = taskRepository.save(entity);
+        collectionVersions.bump(CollectionVersions.Collection.TASKS);
         return taskMapper.toDto(saved);
     }
     /**
@@ -91,7 +201,9 @@ public class TaskServiceImpl implements TaskService {
      * <p>
      * The existing task is fetched, updated, and persisted.
      * Throws {@link ResponseStatusException} with {@code 404 NOT FOUND}
-     * if the task does not exist.
+     * if the task does not exist, and with {@code 409 CONFLICT} if the DTO carries
+     * a version other than the current one. A concurrent update committed between
+     * the read and the write fails the same way on flush.
      * </p>
      *
      * @param id  the ID of the task to update
@@ -103,6 +215,7 @@ public class TaskServiceImpl implements TaskService {
     public TaskDto update(Long id, TaskDto dto) {
         var entity = taskRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found"));
+        checkVersion(dto, entity);
 
         if (dto.getLabelIds() == null) {
             dto.setLabelIds(
@@ -113,10 +226,41 @@ public class TaskServiceImpl implements TaskService {
         }
 
         taskMapper.update(dto, entity, entity);
-        var updated = taskRepository.save(entity);
+        var updated = taskRepository.saveAndFlush(entity);
+        collectionVersions.bump(CollectionVersions.Collection.TASKS);
         return taskMapper.toDto(updated);
     }
 
+    /**
+     * Moves a task to the status given by {@code statusId} or {@code status} slug.
+     * <p>
+     * The transition does not depend on the rest of the task, so on an optimistic
+     * locking conflict it is retried on a fresh copy, up to the configured number
+     * of attempts. Moving a task to the status it already has changes nothing.
+     * </p>
+     *
+     * @param id  the ID of the task to move
+     * @param dto the {@link TaskDto} carrying the target status
+     * @return the updated {@link TaskDto}
+     */
+    @Override
+    public TaskDto changeStatus(Long id, TaskDto dto) {
+        if (dto.getStatusId() == null && (dto.getStatus() == null || dto.getStatus().isBlank())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Task status is required");
+        }
+        var attempt = 0;
+        while (true) {
+            attempt++;
+            try {
+                return transactionTemplate.execute(tx -> applyStatus(id, dto));
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= statusMaxAttempts) {
+                    throw e;
+                }
+            }
+        }
+    }
+
     /**
      * Deletes a task by its identifier.
      * <p>
@@ -132,11 +276,38 @@ public class TaskServiceImpl implements TaskService {
         var task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found"));
         taskRepository.delete(task);
+        collectionVersions.bump(CollectionVersions.Collection.TASKS);
+    }
+
+    private TaskDto applyStatus(Long id, TaskDto dto) {
+        var task = taskRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found"));
+        var status = taskMapper.mapStatusFromDtoUpdate(dto, task);
+        if (status.getId().equals(task.getStatus().getId())) {
+            return taskMapper.toDto(task);
+        }
+        task.setStatus(status);
+        var updated = taskRepository.saveAndFlush(task);
+        collectionVersions.bump(CollectionVersions.Collection.TASKS);
+        return taskMapper.toDto(updated);
+    }
+
+    private void checkVersion(TaskDto dto, Task entity) {
+        if (dto.getVersion() != null && !dto.getVersion().equals(entity.getVersion())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Task was modified by another request");
+        }
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return Math.min(defaultPageSize, maxPageSize);
+        }
+        return Math.max(1, Math.min(limit, maxPageSize));
     }
 
     private void applyDefaultStatusIfNull(Task entity) {
         if (entity.getStatus() == null) {
-            var defaultStatus = statusRepository.findBySlug(defaultStatusSlug)
+            var defaultStatus = referenceDataCache.findStatusBySlug(defaultStatusSlug)
                     .orElseThrow(() -> new ResponseStatusException(
                             HttpStatus.NOT_FOUND,
                             "Default status '" + defaultStatusSlug + "' not found"));
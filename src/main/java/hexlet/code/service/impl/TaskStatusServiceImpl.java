@@ -1,10 +1,13 @@
 package hexlet.code.service.impl;
 
+import hexlet.code.component.CollectionVersions;
+import hexlet.code.component.ReferenceDataCache;
 import hexlet.code.dto.TaskStatusDto;
 import hexlet.code.mapper.TaskStatusMapper;
 import hexlet.code.repository.TaskStatusRepository;
 import hexlet.code.service.TaskStatusService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
@@ -17,6 +20,8 @@ public final class TaskStatusServiceImpl implements TaskStatusService {
 
     private final TaskStatusRepository repository;
     private final TaskStatusMapper mapper;
+    private final ReferenceDataCache referenceDataCache;
+    private final CollectionVersions collectionVersions;
 
     @Override
     public List<TaskStatusDto> getAll() {
@@ -25,6 +30,18 @@ public final class TaskStatusServiceImpl implements TaskStatusService {
                 .toList();
     }
 
+    @Override
+    public List<TaskStatusDto> getAll(Pageable pageable) {
+        return repository.findAllBy(pageable).stream()
+                .map(mapper::toDto)
+                .toList();
+    }
+
+    @Override
+    public long count() {
+        return repository.count();
+    }
+
     @Override
     public TaskStatusDto findById(Long id) {
         var status = repository.findById(id)
@@ -36,6 +53,8 @@ public final class TaskStatusServiceImpl implements TaskStatusService {
     public TaskStatusDto create(TaskStatusDto dto) {
         var entity = mapper.toEntity(dto);
         repository.save(entity);
+        referenceDataCache.evictStatuses();
+        collectionVersions.bump(CollectionVersions.Collection.TASK_STATUSES);
         return mapper.toDto(entity);
     }
 
@@ -45,6 +64,8 @@ public final class TaskStatusServiceImpl implements TaskStatusService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Task status not found"));
         mapper.update(dto, status);
         repository.save(status);
+        referenceDataCache.evictStatuses();
+        collectionVersions.bump(CollectionVersions.Collection.TASK_STATUSES);
         return mapper.toDto(status);
     }
 
@@ -53,5 +74,7 @@ public final class TaskStatusServiceImpl implements TaskStatusService {
         var status = repository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Task status not found"));
         repository.delete(status);
+        referenceDataCache.evictStatuses();
+        collectionVersions.bump(CollectionVersions.Collection.TASK_STATUSES);
     }
 }
@@ -5,6 +5,7 @@ import hexlet.code.mapper.UserMapper;
 import hexlet.code.repository.UserRepository;
 import hexlet.code.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -27,6 +28,18 @@ public final class UserServiceImpl implements UserService {
                 .toList();
     }
 
+    @Override
+    public List<UserDto> getAllUsers(Pageable pageable) {
+        return repository.findAllBy(pageable).stream()
+                .map(mapper::toDto)
+                .toList();
+    }
+
+    @Override
+    public long countUsers() {
+        return repository.count();
+    }
+
     @Override
     public UserDto getUser(Long id) {
         var user = repository.findById(id)
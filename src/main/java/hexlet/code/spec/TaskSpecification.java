@@ -1,13 +1,21 @@
 package hexlet.code.spec;
 
+import hexlet.code.dto.TaskCursor;
 import hexlet.code.dto.TaskParamsDto;
+import hexlet.code.model.Label;
 import hexlet.code.model.Task;
+import jakarta.persistence.criteria.Join;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
+import java.util.Set;
+
 @Component
 public class TaskSpecification {
 
+    private static final String MATCH_ALL = "all";
+
     /**
      * Builds a composed specification based on filtering parameters.
      *
@@ -19,12 +27,49 @@ public class TaskSpecification {
                 titleContains(params.getTitleCont()),
                 hasAssignee(params.getAssigneeId()),
                 hasStatus(params.getStatus()),
-                hasLabel(params.getLabelId())
+                hasLabels(labelIds(params), MATCH_ALL.equalsIgnoreCase(params.getLabelMatch()))
         );
     }
 
+    /**
+     * Checks whether the parameters contain no filter, so the result covers the whole table.
+     *
+     * @param params DTO with filter parameters
+     * @return true if no filter parameter is set
+     */
+    public boolean isUnfiltered(TaskParamsDto params) {
+        return params.getTitleCont() == null
+                && params.getAssigneeId() == null
+                && params.getStatus() == null
+                && labelIds(params).isEmpty();
+    }
+
+    /**
+     * Restricts tasks to those positioned strictly after the given keyset cursor
+     * in the {@code (createdAt, id)} ordering.
+     *
+     * @param cursor last position of the previous page, or {@code null} for the first page
+     * @return specification for keyset pagination
+     */
+    public Specification<Task> after(TaskCursor cursor) {
+        return (root, query, cb) ->
+                cursor == null
+                        ? cb.conjunction()
+                        : cb.or(
+                                cb.greaterThan(root.get("createdAt"), cursor.createdAt()),
+                                cb.and(
+                                        cb.equal(root.get("createdAt"), cursor.createdAt()),
+                                        cb.greaterThan(root.get("id"), cursor.id())
+                                )
+                        );
+    }
+
     /**
      * Filters tasks whose title contains the specified substring (case-insensitive).
+     * <p>
+     * On PostgreSQL the {@code lower(title)} expression is covered by a trigram GIN index
+     * (see {@code schema-postgresql.sql}), so the search does not scan the whole table.
+     * </p>
      *
      * @param title part of title to search for
      * @return specification for title filtering
@@ -63,16 +108,43 @@ public class TaskSpecification {
     }
 
     /**
-     * Filters tasks by associated label id.
+     * Filters tasks by associated label ids.
+     * <p>
+     * Uses a correlated subquery over the task labels instead of joining them
+     * into the main query, so each task produces exactly one result row
+     * however many labels it has.
+     * </p>
      *
-     * @param labelId id of the label
+     * @param labelIds ids of the labels
+     * @param matchAll whether a task must have all the labels rather than any of them
      * @return specification for label filtering
      */
-    private Specification<Task> hasLabel(Long labelId) {
-        return (root, query, cb) ->
-                labelId == null
-                        ? cb.conjunction()
-                        : cb.isMember(labelId, root.join("labels").get("id"));
+    private Specification<Task> hasLabels(Set<Long> labelIds, boolean matchAll) {
+        return (root, query, cb) -> {
+            if (labelIds.isEmpty()) {
+                return cb.conjunction();
+            }
+            var subquery = query.subquery(Long.class);
+            Join<Task, Label> label = subquery.correlate(root).join("labels");
+            subquery.where(label.<Long>get("id").in(labelIds));
+
+            if (!matchAll) {
+                return cb.exists(subquery.select(label.<Long>get("id")));
+            }
+            subquery.select(cb.countDistinct(label.<Long>get("id")));
+            return cb.equal(subquery, (long) labelIds.size());
+        };
+    }
+
+    private Set<Long> labelIds(TaskParamsDto params) {
+        var ids = new HashSet<Long>();
+        if (params.getLabelIds() != null) {
+            ids.addAll(params.getLabelIds());
+        }
+        if (params.getLabelId() != null) {
+            ids.add(params.getLabelId());
+        }
+        return ids;
     }
 }
 
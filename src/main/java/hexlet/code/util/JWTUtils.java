@@ -1,39 +1,99 @@
 package hexlet.code.util;
 
+import hexlet.code.security.JwtKeyRing;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.jwt.JwsHeader;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.stereotype.Component;
+
+import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.util.UUID;
 
 /**
  * Utility class for generating JWT tokens.
+ * <p>
+ * Access tokens are short-lived and authorize API calls. Refresh tokens live longer and are only
+ * accepted by {@code /api/auth/refresh}. Both carry a unique {@code jti} so they can be revoked.
+ * Tokens are signed with the signing key of the {@link JwtKeyRing} and name it in the {@code kid} header.
+ * </p>
  */
 @Component
 public final class JWTUtils {
 
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ADMIN_CLAIM = "admin";
+    public static final String TOKEN_TYPE_CLAIM = "token_type";
+    public static final String ACCESS_TOKEN = "access";
+    public static final String REFRESH_TOKEN = "refresh";
+
     private final JwtEncoder encoder;
+    private final JwsHeader header;
+    private final Duration accessTokenTtl;
+    private final Duration refreshTokenTtl;
 
-    public JWTUtils(JwtEncoder encoder) {
+    public JWTUtils(JwtEncoder encoder,
+                    JwtKeyRing keyRing,
+                    @Value("${app.jwt.access-token-ttl:15m}") Duration accessTokenTtl,
+                    @Value("${app.jwt.refresh-token-ttl:30d}") Duration refreshTokenTtl) {
         this.encoder = encoder;
+        this.header = JwsHeader.with(keyRing.getSigningAlgorithm()).keyId(keyRing.getSigningKeyId()).build();
+        this.accessTokenTtl = accessTokenTtl;
+        this.refreshTokenTtl = refreshTokenTtl;
+    }
+
+    /**
+     * Generates an access token for the specified user.
+     * <p>
+     * Besides the username as subject, the token carries the user ID ({@code uid})
+     * and the admin flag ({@code admin}) so that authorization checks can be made from the token alone.
+     * </p>
+     *
+     * @param username the username for which the token is generated
+     * @param userId   the user ID
+     * @param admin    whether the user is the administrator
+     * @return a JWT token as a string
+     */
+    public String generateToken(String username, Long userId, boolean admin) {
+        return encode(username, userId, admin, ACCESS_TOKEN, accessTokenTtl);
     }
 
     /**
-     * Generates a JWT token for the specified username.
+     * Generates a refresh token for the specified user.
      *
      * @param username the username for which the token is generated
+     * @param userId   the user ID
+     * @param admin    whether the user is the administrator
      * @return a JWT token as a string
      */
-    public String generateToken(String username) {
+    public String generateRefreshToken(String username, Long userId, boolean admin) {
+        return encode(username, userId, admin, REFRESH_TOKEN, refreshTokenTtl);
+    }
+
+    /**
+     * Returns the lifetime of access tokens.
+     *
+     * @return access token lifetime
+     */
+    public Duration getAccessTokenTtl() {
+        return accessTokenTtl;
+    }
+
+    private String encode(String username, Long userId, boolean admin, String type, Duration ttl) {
         Instant now = Instant.now();
         JwtClaimsSet claims = JwtClaimsSet.builder()
+                .id(UUID.randomUUID().toString())
                 .issuer("self")
                 .issuedAt(now)
-                .expiresAt(now.plus(361, ChronoUnit.DAYS))
+                .expiresAt(now.plus(ttl))
                 .subject(username)
+                .claim(USER_ID_CLAIM, userId)
+                .claim(ADMIN_CLAIM, admin)
+                .claim(TOKEN_TYPE_CLAIM, type)
                 .build();
 
-        return this.encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+        return this.encoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
     }
 }
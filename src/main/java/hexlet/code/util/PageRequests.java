@@ -0,0 +1,85 @@
+package hexlet.code.util;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Utility class for converting list ranges sent by the frontend into page requests.
+ */
+public final class PageRequests {
+
+    private PageRequests() {
+    }
+
+    /**
+     * Converts a react-admin {@code _start}/{@code _end} range into a page request ordered by ID.
+     * <p>
+     * The range does not have to be aligned to its size: the request carries {@code start}
+     * as the query offset, not a page number.
+     * </p>
+     *
+     * @param start index of the first element, inclusive
+     * @param end   index of the last element, exclusive
+     * @return page request covering the range
+     * @throws ResponseStatusException with {@code 400 BAD REQUEST} if the range is invalid
+     */
+    public static Pageable ofRange(int start, int end) {
+        if (start < 0 || end <= start) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid range: " + start + "-" + end);
+        }
+        return new OffsetPageRequest(start, end - start, Sort.by("id"));
+    }
+
+    /**
+     * Page request with an arbitrary offset, not necessarily a multiple of the page size.
+     */
+    private record OffsetPageRequest(long offset, int size, Sort sort) implements Pageable {
+
+        @Override
+        public int getPageNumber() {
+            return (int) (offset / size);
+        }
+
+        @Override
+        public int getPageSize() {
+            return size;
+        }
+
+        @Override
+        public long getOffset() {
+            return offset;
+        }
+
+        @Override
+        public Sort getSort() {
+            return sort;
+        }
+
+        @Override
+        public Pageable next() {
+            return new OffsetPageRequest(offset + size, size, sort);
+        }
+
+        @Override
+        public Pageable previousOrFirst() {
+            return hasPrevious() ? new OffsetPageRequest(Math.max(0, offset - size), size, sort) : first();
+        }
+
+        @Override
+        public Pageable first() {
+            return new OffsetPageRequest(0, size, sort);
+        }
+
+        @Override
+        public Pageable withPage(int pageNumber) {
+            return new OffsetPageRequest((long) pageNumber * size, size, sort);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return offset > 0;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package hexlet.code.util;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ * <p>
+ * Registered as the Hibernate {@link StatementInspector}; statements are counted only inside a
+ * {@link Scope} opened with {@link #start()}, so the cost outside of a scope is one thread-local read.
+ * Scopes can be nested, every open scope counts the statements.
+ * </p>
+ */
+public final class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        for (var scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.count++;
+        }
+        return sql;
+    }
+
+    /**
+     * Starts counting statements on the current thread.
+     *
+     * @return scope to read the count from and to close on the same thread
+     */
+    public static Scope start() {
+        var scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Statements counted since {@link QueryCounter#start()}.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private int count;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        /**
+         * Returns the number of statements counted so far.
+         *
+         * @return statement count
+         */
+        public int count() {
+            return count;
+        }
+
+        /**
+         * Stops counting; the outer scope, if any, becomes current again.
+         */
+        @Override
+        public void close() {
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+    }
+}
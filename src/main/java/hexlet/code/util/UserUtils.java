@@ -2,8 +2,10 @@ package hexlet.code.util;
 
 import hexlet.code.model.User;
 import hexlet.code.repository.UserRepository;
+import hexlet.code.security.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
@@ -19,10 +21,24 @@ public class UserUtils {
     @Value("${app.admin.email:hexlet@example.com}")
     private String adminEmail;
 
+    /**
+     * Checks whether the given email belongs to the configured admin.
+     *
+     * @param email user email
+     * @return true if the user is the admin
+     */
+    public boolean isAdmin(String email) {
+        return email != null && email.equalsIgnoreCase(adminEmail);
+    }
+
     /**
      * Checks whether the authenticated user has access to the user with the given ID.
      * Access is granted if the user is the same as the authenticated one
      * or if the authenticated user is the configured admin.
+     * <p>
+     * Uses the user ID and admin flag from the token claims; the database is queried
+     * only for tokens issued without them.
+     * </p>
      *
      * @param id the target user ID
      * @return true if access is allowed, false otherwise
@@ -33,28 +49,44 @@ public class UserUtils {
             return false;
         }
 
-        String email = auth.getName();
-        if (email.equalsIgnoreCase(adminEmail)) {
+        if (isAdmin(auth.getName())
+                || auth.getPrincipal() instanceof AuthenticatedUser principal && principal.admin()) {
             return true;
         }
 
-        return userRepository.findByEmail(email)
-                .map(user -> user.getId().equals(id))
-                .orElse(false);
+        var currentUserId = getCurrentUserId(auth);
+        return currentUserId != null && currentUserId.equals(id);
     }
 
     /**
-     * Returns the entity of the currently authenticated user.
+     * Returns the ID of the currently authenticated user.
      *
-     * @return the current authenticated user, or null if unauthenticated
+     * @return the user ID, or null if unauthenticated or the user does not exist
      */
-    public User getCurrentUser() {
+    public Long getCurrentUserId() {
         var auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth == null || !auth.isAuthenticated()) {
             return null;
         }
+        return getCurrentUserId(auth);
+    }
 
-        var email = auth.getName();
-        return userRepository.findByEmail(email).orElse(null);
+    /**
+     * Returns the entity of the currently authenticated user.
+     *
+     * @return the current authenticated user, or null if unauthenticated
+     */
+    public User getCurrentUser() {
+        var id = getCurrentUserId();
+        return id == null ? null : userRepository.findById(id).orElse(null);
+    }
+
+    private Long getCurrentUserId(Authentication auth) {
+        if (auth.getPrincipal() instanceof AuthenticatedUser principal && principal.id() != null) {
+            return principal.id();
+        }
+        return userRepository.findByEmail(auth.getName())
+                .map(User::getId)
+                .orElse(null);
     }
 }
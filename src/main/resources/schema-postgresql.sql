@@ -0,0 +1,27 @@
+-- Applied on every start after Hibernate has updated the schema
+-- (see spring.sql.init and spring.jpa.defer-datasource-initialization in application-prod.yml).
+-- Every statement must be idempotent.
+
+-- Trigram index serving the case-insensitive substring search on task titles
+-- (lower(title) LIKE '%...%' in TaskSpecification.titleContains).
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_tasks_title_trgm ON tasks USING gin (lower(title) gin_trgm_ops);
+
+-- IDs come from pooled sequences (allocationSize = 50) instead of identity columns,
+-- which lets Hibernate batch inserts. Tables created before the switch still have
+-- identity columns and rows the new sequences know nothing about: drop the identity
+-- and move each sequence past the existing IDs. setval never moves a sequence back.
+ALTER TABLE tasks ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE labels ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE task_statuses ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+SELECT setval('tasks_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM tasks), (SELECT last_value FROM tasks_seq)));
+SELECT setval('users_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM users), (SELECT last_value FROM users_seq)));
+SELECT setval('labels_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM labels), (SELECT last_value FROM labels_seq)));
+SELECT setval('task_statuses_seq',
+              GREATEST((SELECT COALESCE(MAX(id), 0) FROM task_statuses), (SELECT last_value FROM task_statuses_seq)));
+
+-- The script may change rows outside the services; invalidate all entity tags (CollectionVersions).
+-- On the very first start the rows may not exist yet; then there are no tags to invalidate either.
+UPDATE collection_versions SET version = version + 1;
@@ -0,0 +1,50 @@
+package hexlet.code.component;
+
+import io.sentry.CustomSamplingContext;
+import io.sentry.SamplingContext;
+import io.sentry.TransactionContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest
+class TraceSamplerTest {
+
+    @Autowired
+    private TraceSampler traceSampler;
+
+    private static SamplingContext context(String method, String path) {
+        var custom = new CustomSamplingContext();
+        custom.set("request", new MockHttpServletRequest(method, path));
+        return new SamplingContext(new TransactionContext(method + " " + path, "http.server"), custom);
+    }
+
+    @Test
+    void testConfiguredRates() {
+        assertThat(traceSampler.sample(context("GET", "/api/tasks"))).isEqualTo(0.01);
+        assertThat(traceSampler.sample(context("POST", "/api/tasks"))).isEqualTo(0.1);
+        assertThat(traceSampler.sample(context("GET", "/actuator/health"))).isEqualTo(0.0);
+    }
+
+    @Test
+    void testTailSamplingTracesBoundedShare() {
+        var rule = new SentryTracingProperties.Rule();
+        rule.setMethod("GET");
+        rule.setPath("/api/tasks");
+        rule.setRate(0.01);
+        var properties = new SentryTracingProperties();
+        properties.setRules(List.of(rule));
+        properties.setTailSampling(true);
+        properties.setTailFactor(10);
+        var sampler = new TraceSampler(properties);
+
+        assertThat(sampler.sample(context("GET", "/api/tasks"))).isCloseTo(0.1, within(1e-9));
+        assertThat(sampler.sample(context("GET", "/api/labels"))).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,55 @@
+package hexlet.code.controllers;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class ActuatorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testHealthIsPublic() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testPrometheusRequiresAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(get("/actuator/prometheus").with(jwt()))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void testPrometheusExposesApplicationMetrics() throws Exception {
+        mockMvc.perform(get("/api/task_statuses").with(jwt()))
+                .andExpect(status().isOk());
+
+        var body = mockMvc.perform(get("/actuator/prometheus")
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body).contains("http_server_requests_seconds_bucket");
+        assertThat(body).contains("uri=\"/api/task_statuses\"");
+        assertThat(body).contains("hikaricp_connections");
+        assertThat(body).contains("hibernate_query_executions");
+        assertThat(body).contains("jvm_memory_used_bytes");
+    }
+}
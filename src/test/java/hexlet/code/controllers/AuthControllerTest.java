@@ -0,0 +1,289 @@
+package hexlet.code.controllers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import hexlet.code.component.RsaKeyProperties;
+import hexlet.code.dto.AuthRequest;
+import hexlet.code.dto.RefreshRequest;
+import hexlet.code.dto.UserDto;
+import hexlet.code.repository.RevokedTokenRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.security.RevokedTokenStore;
+import hexlet.code.security.TokenRevocationList;
+import hexlet.code.security.TokenService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AuthControllerTest {
+
+    @Autowired
+    private WebApplicationContext wac;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private RsaKeyProperties rsaKeys;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private JwtDecoder jwtDecoder;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        taskRepository.deleteAll();
+        taskStatusRepository.deleteAll();
+        userRepository.deleteAll();
+
+        mockMvc = MockMvcBuilders.webAppContextSetup(wac)
+                .defaultResponseCharacterEncoding(StandardCharsets.UTF_8)
+                .apply(springSecurity())
+                .build();
+
+        var dto = new UserDto();
+        dto.setEmail("auth@simple.com");
+        dto.setFirstName("John");
+        dto.setLastName("Doe");
+        dto.setPassword("secret123");
+        mockMvc.perform(post("/api/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isCreated());
+    }
+
+    private JsonNode loginPair() throws Exception {
+        var login = new AuthRequest();
+        login.setUsername("auth@simple.com");
+        login.setPassword("secret123");
+        var result = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(login)))
+                .andExpect(status().isOk())
+                .andReturn();
+        var body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private String refreshBody(String refreshToken) throws Exception {
+        var request = new RefreshRequest();
+        request.setRefreshToken(refreshToken);
+        return objectMapper.writeValueAsString(request);
+    }
+
+    @Test
+    void testLoginReturnsTokenPair() throws Exception {
+        var pair = loginPair();
+
+        assertThat(pair.get("tokenType").asText()).isEqualTo("Bearer");
+        assertThat(pair.get("expiresIn").asLong()).isPositive();
+        assertThat(pair.get("refreshToken").asText()).isNotBlank();
+
+        mockMvc.perform(get("/api/task_statuses")
+                        .header("Authorization", "Bearer " + pair.get("accessToken").asText()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testTokenNamesSigningKey() throws Exception {
+        var accessToken = loginPair().get("accessToken").asText();
+
+        var header = objectMapper.readTree(Base64.getUrlDecoder().decode(accessToken.split("\\.")[0]));
+        assertThat(header.get("alg").asText()).isEqualTo("ES256");
+        assertThat(header.get("kid").asText()).isEqualTo("es256-1");
+    }
+
+    @Test
+    void testLegacyRsaTokenIsAccepted() throws Exception {
+        var key = new RSAKey.Builder(rsaKeys.getPublicKey()).privateKey(rsaKeys.getPrivateKey()).build();
+        var encoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(key)));
+        var now = Instant.now();
+        var claims = JwtClaimsSet.builder()
+                .issuer("self")
+                .issuedAt(now)
+                .expiresAt(now.plus(1, ChronoUnit.DAYS))
+                .subject("auth@simple.com")
+                .build();
+        var legacyToken = encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+
+        mockMvc.perform(get("/api/task_statuses")
+                        .header("Authorization", "Bearer " + legacyToken))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testTokenIsReadFromHeaderOnly() throws Exception {
+        var accessToken = loginPair().get("accessToken").asText();
+
+        mockMvc.perform(get("/api/task_statuses").param("access_token", accessToken))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void testSecurityFilterChainIsTimed() throws Exception {
+        var accessToken = loginPair().get("accessToken").asText();
+
+        mockMvc.perform(get("/api/task_statuses").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/task_statuses"))
+                .andExpect(status().isUnauthorized());
+
+        var authorized = meterRegistry.find("security.filter.chain").tag("outcome", "authorized").timer();
+        var rejected = meterRegistry.find("security.filter.chain").tag("outcome", "rejected").timer();
+        assertThat(authorized).isNotNull();
+        assertThat(authorized.count()).isPositive();
+        assertThat(rejected).isNotNull();
+        assertThat(rejected.count()).isPositive();
+    }
+
+    @Test
+    void testRefreshTokenIsNotAnAccessToken() throws Exception {
+        var pair = loginPair();
+
+        mockMvc.perform(get("/api/task_statuses")
+                        .header("Authorization", "Bearer " + pair.get("refreshToken").asText()))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void testRefreshRotatesToken() throws Exception {
+        var pair = loginPair();
+        var refreshToken = pair.get("refreshToken").asText();
+
+        var body = mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshBody(refreshToken)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        var refreshed = objectMapper.readTree(body);
+        assertThat(refreshed.get("refreshToken").asText()).isNotEqualTo(refreshToken);
+
+        mockMvc.perform(get("/api/task_statuses")
+                        .header("Authorization", "Bearer " + refreshed.get("accessToken").asText()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshBody(refreshToken)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void testConcurrentRefreshIssuesOnePair() throws Exception {
+        var refreshToken = loginPair().get("refreshToken").asText();
+        var requests = 8;
+        var start = new CountDownLatch(1);
+        var issued = new AtomicInteger();
+
+        try (var executor = Executors.newFixedThreadPool(requests)) {
+            for (int i = 0; i < requests; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    tokenService.refresh(refreshToken);
+                    issued.incrementAndGet();
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        assertThat(issued.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testLogoutRevokesTokens() throws Exception {
+        var pair = loginPair();
+        var accessToken = pair.get("accessToken").asText();
+        var refreshToken = pair.get("refreshToken").asText();
+
+        mockMvc.perform(post("/api/auth/logout")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshBody(refreshToken)))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/task_statuses")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshBody(refreshToken)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void testRevocationsSurviveRestart() throws Exception {
+        var pair = loginPair();
+        var accessToken = pair.get("accessToken").asText();
+        var refreshToken = jwtDecoder.decode(pair.get("refreshToken").asText());
+        var accessJti = jwtDecoder.decode(accessToken).getId();
+
+        mockMvc.perform(post("/api/auth/logout")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshBody(refreshToken.getTokenValue())))
+                .andExpect(status().isNoContent());
+
+        // A fresh instance starts with an empty in-memory list
+        var revocationList = new TokenRevocationList();
+        var restarted = new RevokedTokenStore(revokedTokenRepository, revocationList);
+        assertThat(revocationList.isRevoked(accessJti)).isTrue();
+        assertThat(restarted.revokeRefreshToken(refreshToken.getId(), refreshToken.getExpiresAt())).isFalse();
+    }
+}
@@ -1,10 +1,12 @@
 package hexlet.code.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.component.CollectionVersions;
 import hexlet.code.dto.LabelDto;
 import hexlet.code.dto.TaskDto;
 import hexlet.code.dto.TaskStatusDto;
 import hexlet.code.dto.UserDto;
+import hexlet.code.repository.CollectionVersionRepository;
 import hexlet.code.repository.LabelRepository;
 import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.TaskStatusRepository;
@@ -22,12 +24,14 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Set;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
 import java.util.List;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -56,6 +60,9 @@ class LabelControllerTest {
     @Autowired
     private TestUtils testUtils;
 
+    @Autowired
+    private CollectionVersionRepository collectionVersionRepository;
+
     private JwtRequestPostProcessor token;
 
     @BeforeEach
@@ -141,6 +148,60 @@ class LabelControllerTest {
                 .andExpect(jsonPath("$.name").value("Feature"));
     }
 
+    @Test
+    void testConditionalRequests() throws Exception {
+        var createResponse = mockMvc.perform(post("/api/labels").with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(buildTestLabel())))
+                .andExpect(status().isCreated())
+                .andReturn();
+        LabelDto created = objectMapper.readValue(createResponse.getResponse().getContentAsString(),
+                LabelDto.class);
+
+        var listTag = mockMvc.perform(get("/api/labels").with(token))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/api/labels").with(token).header("If-None-Match", listTag))
+                .andExpect(status().isNotModified());
+
+        var itemTag = mockMvc.perform(get("/api/labels/" + created.getId()).with(token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(itemTag).isNotEqualTo(listTag);
+
+        created.setName("Feature");
+        mockMvc.perform(put("/api/labels/" + created.getId()).with(token)
+                        .header("If-Match", itemTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(created)))
+                .andExpect(status().isOk());
+
+        created.setName("Stale");
+        mockMvc.perform(put("/api/labels/" + created.getId()).with(token)
+                        .header("If-Match", itemTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(created)))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(get("/api/labels").with(token).header("If-None-Match", listTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Feature"));
+    }
+
+    @Test
+    void testTagFollowsWritesOfOtherInstances() throws Exception {
+        var listTag = mockMvc.perform(get("/api/labels").with(token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Another instance bumps the shared counter after its own write
+        collectionVersionRepository.increment(CollectionVersions.Collection.LABELS.name());
+
+        mockMvc.perform(get("/api/labels").with(token).header("If-None-Match", listTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(listTag)));
+    }
+
     @Test
     void testDeleteLabelWithoutTasks() throws Exception {
         LabelDto dto = buildTestLabel();
@@ -209,4 +270,36 @@ class LabelControllerTest {
         mockMvc.perform(delete("/api/labels/" + createdLabel.getId()).with(token))
                 .andExpect(status().isUnprocessableEntity());
     }
+
+    @Test
+    void testGetLabelsRange() throws Exception {
+        for (var name : List.of("feature", "bugfix", "release")) {
+            LabelDto dto = new LabelDto();
+            dto.setName(name);
+            mockMvc.perform(post("/api/labels").with(token)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(dto)))
+                    .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(get("/api/labels")
+                        .param("_start", "0")
+                        .param("_end", "2")
+                        .with(token))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "3"))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].name").value("feature"))
+                .andExpect(jsonPath("$[1].name").value("bugfix"));
+
+        mockMvc.perform(get("/api/labels")
+                        .param("_start", "1")
+                        .param("_end", "3")
+                        .with(token))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "3"))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].name").value("bugfix"))
+                .andExpect(jsonPath("$[1].name").value("release"));
+    }
 }
@@ -5,6 +5,7 @@ import hexlet.code.dto.TaskDto;
 import hexlet.code.dto.TaskStatusDto;
 import hexlet.code.dto.UserDto;
 import hexlet.code.mapper.TaskMapper;
+import hexlet.code.model.Label;
 import hexlet.code.repository.LabelRepository;
 import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.TaskStatusRepository;
@@ -22,16 +23,22 @@ import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequ
         .JwtRequestPostProcessor;
 import org.springframework.test.web.servlet.MockMvc;
 import java.util.List;
+import java.util.Set;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.not;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -173,6 +180,124 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.title").value("Updated Task"));
     }
 
+    @Test
+    void testConditionalRequests() throws Exception {
+        var createResponse = mockMvc.perform(post("/api/tasks").with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(buildTestTask())))
+                .andExpect(status().isCreated())
+                .andReturn();
+        TaskDto created = objectMapper.readValue(createResponse.getResponse().getContentAsString(), TaskDto.class);
+
+        var listTag = mockMvc.perform(get("/api/tasks").with(token))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/api/tasks").with(token).header("If-None-Match", listTag))
+                .andExpect(status().isNotModified());
+
+        var itemTag = mockMvc.perform(get("/api/tasks/" + created.getId()).with(token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        created.setTitle("Updated with If-Match");
+        mockMvc.perform(put("/api/tasks/" + created.getId()).with(token)
+                        .header("If-Match", itemTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(created)))
+                .andExpect(status().isOk());
+
+        created.setTitle("Stale");
+        mockMvc.perform(put("/api/tasks/" + created.getId()).with(token)
+                        .header("If-Match", itemTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(created)))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/api/tasks/" + created.getId()).with(token)
+                        .header("If-Match", itemTag))
+                .andExpect(status().isPreconditionFailed());
+        assertThat(taskRepository.findById(created.getId()).orElseThrow().getTitle())
+                .isEqualTo("Updated with If-Match");
+    }
+
+    @Test
+    void testTaskTagsChangeWithLabelsAndStatuses() throws Exception {
+        var initialTag = mockMvc.perform(get("/api/tasks").with(token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(post("/api/labels").with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"tag-check\"}"))
+                .andExpect(status().isCreated());
+        var afterLabelTag = mockMvc.perform(get("/api/tasks").with(token).header("If-None-Match", initialTag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(afterLabelTag).isNotEqualTo(initialTag);
+
+        mockMvc.perform(post("/api/task_statuses").with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Tag check\", \"slug\": \"tag_check\"}"))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/tasks").with(token).header("If-None-Match", afterLabelTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(afterLabelTag)));
+    }
+
+    @Test
+    void testUpdateTaskWithStaleVersion() throws Exception {
+        var createResponse = mockMvc.perform(post("/api/tasks").with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(buildTestTask())))
+                .andReturn();
+        TaskDto created = objectMapper.readValue(createResponse.getResponse().getContentAsString(), TaskDto.class);
+
+        created.setTitle("First writer");
+        mockMvc.perform(put("/api/tasks/" + created.getId()).with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(created)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(created.getVersion() + 1));
+
+        created.setTitle("Second writer");
+        mockMvc.perform(put("/api/tasks/" + created.getId()).with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(created)))
+                .andExpect(status().isConflict());
+
+        assertThat(taskRepository.findById(created.getId()).orElseThrow().getTitle()).isEqualTo("First writer");
+    }
+
+    @Test
+    void testChangeTaskStatus() throws Exception {
+        var published = new TaskStatusDto();
+        published.setName("Published");
+        published.setSlug("published");
+        statusService.create(published);
+
+        var createResponse = mockMvc.perform(post("/api/tasks").with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(buildTestTask())))
+                .andReturn();
+        TaskDto created = objectMapper.readValue(createResponse.getResponse().getContentAsString(), TaskDto.class);
+
+        var change = new TaskDto();
+        change.setStatus("published");
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(patch("/api/tasks/" + created.getId() + "/status").with(token)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(change)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("published"))
+                    .andExpect(jsonPath("$.version").value(created.getVersion() + 1));
+        }
+
+        mockMvc.perform(patch("/api/tasks/" + created.getId() + "/status").with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testDeleteTask() throws Exception {
         TaskDto dto = buildTestTask();
@@ -208,4 +333,265 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$[*].title", hasItem("First Task")))
                 .andExpect(jsonPath("$[*].title", not(hasItem("Second Task"))));
     }
+
+    @Test
+    void testGetTasksByCursor() throws Exception {
+        for (var title : List.of("First Task", "Second Task", "Third Task")) {
+            TaskDto dto = buildTestTask();
+            dto.setTitle(title);
+            mockMvc.perform(post("/api/tasks").with(token)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(dto)))
+                    .andExpect(status().isCreated());
+        }
+
+        var firstPage = mockMvc.perform(get("/api/tasks")
+                        .param("limit", "2")
+                        .with(token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value("First Task"))
+                .andExpect(jsonPath("$[1].title").value("Second Task"))
+                .andExpect(header().string("X-Total-Count", "3"))
+                .andExpect(header().doesNotExist("X-Total-Count-Estimated"))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn()
+                .getResponse();
+
+        mockMvc.perform(get("/api/tasks")
+                        .param("limit", "2")
+                        .param("after", firstPage.getHeader("X-Next-Cursor"))
+                        .with(token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value("Third Task"))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    @Test
+    void testGetTasksWithInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/tasks")
+                        .param("after", "not-a-cursor")
+                        .with(token))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testStreamTasks() throws Exception {
+        for (var title : List.of("First Task", "Second Task")) {
+            TaskDto dto = buildTestTask();
+            dto.setTitle(title);
+            mockMvc.perform(post("/api/tasks").with(token)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(dto)))
+                    .andExpect(status().isCreated());
+        }
+
+        var result = mockMvc.perform(get("/api/tasks")
+                        .param("stream", "true")
+                        .with(token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        var lines = body.lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines.get(0), TaskDto.class).getTitle()).isEqualTo("First Task");
+        assertThat(objectMapper.readValue(lines.get(1), TaskDto.class).getTitle()).isEqualTo("Second Task");
+    }
+
+    @Test
+    void testStreamTasksByAcceptHeader() throws Exception {
+        mockMvc.perform(post("/api/tasks").with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(buildTestTask())))
+                .andExpect(status().isCreated());
+
+        var result = mockMvc.perform(get("/api/tasks")
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .with(token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(body.lines()).hasSize(1);
+    }
+
+    @Test
+    void testFilterTasksByLabels() throws Exception {
+        var bugId = createLabel("bug");
+        var featureId = createLabel("feature");
+        createTaskWithLabels("Both labels", Set.of(bugId, featureId));
+        createTaskWithLabels("Bug only", Set.of(bugId));
+        createTaskWithLabels("No labels", Set.of());
+
+        mockMvc.perform(get("/api/tasks")
+                        .param("labelIds", bugId + "," + featureId)
+                        .param("limit", "10")
+                        .with(token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(header().string("X-Total-Count", "2"))
+                .andExpect(jsonPath("$[*].title", not(hasItem("No labels"))));
+
+        mockMvc.perform(get("/api/tasks")
+                        .param("labelIds", bugId + "," + featureId)
+                        .param("labelMatch", "all")
+                        .param("limit", "10")
+                        .with(token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(header().string("X-Total-Count", "1"))
+                .andExpect(jsonPath("$[0].title").value("Both labels"));
+    }
+
+    @Test
+    void testCreateTaskWithUnknownAssignee() throws Exception {
+        TaskDto dto = buildTestTask();
+        dto.setAssigneeId(defaultAssigneeId + 1000);
+        mockMvc.perform(post("/api/tasks").with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testCreateTaskAfterStatusSlugChanged() throws Exception {
+        TaskDto first = buildTestTask();
+        first.setStatusId(null);
+        first.setStatus("draft");
+        mockMvc.perform(post("/api/tasks").with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(first)))
+                .andExpect(status().isCreated());
+
+        var renamed = new TaskStatusDto();
+        renamed.setSlug("to_review");
+        mockMvc.perform(put("/api/task_statuses/" + defaultStatusId).with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(renamed)))
+                .andExpect(status().isOk());
+
+        TaskDto stale = buildTestTask();
+        stale.setStatusId(null);
+        stale.setStatus("draft");
+        mockMvc.perform(post("/api/tasks").with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(stale)))
+                .andExpect(status().isNotFound());
+
+        TaskDto fresh = buildTestTask();
+        fresh.setStatusId(null);
+        fresh.setStatus("to_review");
+        mockMvc.perform(post("/api/tasks").with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(fresh)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.status").value("to_review"));
+    }
+
+    @Test
+    void testBulkCreateUpdateDeleteTasks() throws Exception {
+        var doneStatus = new TaskStatusDto();
+        doneStatus.setName("Done");
+        doneStatus.setSlug("done");
+        var doneStatusId = statusService.create(doneStatus).getId();
+
+        TaskDto first = buildTestTask();
+        first.setTitle("First Task");
+        TaskDto second = buildTestTask();
+        second.setTitle("Second Task");
+        TaskDto invalid = buildTestTask();
+        invalid.setStatusId(null);
+        invalid.setStatus("missing");
+
+        var created = mockMvc.perform(post("/api/tasks/bulk").with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(first, second, invalid))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].status").value(201))
+                .andExpect(jsonPath("$[1].status").value(201))
+                .andExpect(jsonPath("$[2].status").value(404))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        assertThat(taskRepository.count()).isEqualTo(2);
+
+        var firstId = objectMapper.readTree(created).get(0).get("id").asLong();
+        var secondId = objectMapper.readTree(created).get(1).get("id").asLong();
+
+        var moveFirst = new TaskDto();
+        moveFirst.setId(firstId);
+        moveFirst.setStatusId(doneStatusId);
+        var moveMissing = new TaskDto();
+        moveMissing.setId(secondId + 1000);
+        moveMissing.setStatusId(doneStatusId);
+
+        mockMvc.perform(patch("/api/tasks/bulk").with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(moveFirst, moveMissing))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value(200))
+                .andExpect(jsonPath("$[0].task.status").value("done"))
+                .andExpect(jsonPath("$[0].task.title").value("First Task"))
+                .andExpect(jsonPath("$[1].status").value(404));
+
+        mockMvc.perform(delete("/api/tasks/bulk").with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(firstId, secondId))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value(204))
+                .andExpect(jsonPath("$[1].status").value(204));
+        assertThat(taskRepository.count()).isZero();
+    }
+
+    @Test
+    void testListTasksQueryCountDoesNotGrowWithTasks() throws Exception {
+        var bugId = createLabel("bug");
+        var featureId = createLabel("feature");
+        createTaskWithLabels("First", Set.of(bugId, featureId));
+
+        var oneTask = testUtils.countQueries(() -> mockMvc.perform(get("/api/tasks").with(token))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("X-Query-Count")));
+
+        for (int i = 0; i < 4; i++) {
+            createTaskWithLabels("Task " + i, Set.of(bugId, featureId));
+        }
+        var fiveTasks = testUtils.countQueries(() -> mockMvc.perform(get("/api/tasks").with(token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(5)));
+
+        assertThat(oneTask).isPositive();
+        assertThat(fiveTasks).isEqualTo(oneTask);
+    }
+
+    private Long createLabel(String name) {
+        var label = new Label();
+        label.setName(name);
+        return labelRepository.save(label).getId();
+    }
+
+    private void createTaskWithLabels(String title, Set<Long> labelIds) throws Exception {
+        TaskDto dto = buildTestTask();
+        dto.setTitle(title);
+        dto.setLabelIds(labelIds);
+        mockMvc.perform(post("/api/tasks").with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isCreated());
+    }
 }
@@ -21,11 +21,13 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.util.List;
 import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -140,6 +142,44 @@ class TaskStatusControllerTest {
                 .andExpect(jsonPath("$.name").value("Done"));
     }
 
+    @Test
+    void testConditionalRequests() throws Exception {
+        var createResponse = mockMvc.perform(post("/api/task_statuses").with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(buildTestStatus())))
+                .andExpect(status().isCreated())
+                .andReturn();
+        TaskStatusDto created = objectMapper.readValue(createResponse.getResponse().getContentAsString(),
+                TaskStatusDto.class);
+
+        var listTag = mockMvc.perform(get("/api/task_statuses").with(token))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/api/task_statuses").with(token).header("If-None-Match", listTag))
+                .andExpect(status().isNotModified());
+
+        var itemTag = mockMvc.perform(get("/api/task_statuses/" + created.getId()).with(token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        created.setName("Reviewed");
+        mockMvc.perform(put("/api/task_statuses/" + created.getId()).with(token)
+                        .header("If-Match", itemTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(created)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/api/task_statuses/" + created.getId()).with(token)
+                        .header("If-Match", itemTag))
+                .andExpect(status().isPreconditionFailed());
+        assertThat(taskStatusRepository.findById(created.getId())).isPresent();
+
+        mockMvc.perform(get("/api/task_statuses").with(token).header("If-None-Match", listTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(listTag)));
+    }
+
     @Test
     void testDeleteTaskStatusWithoutTasks() throws Exception {
         TaskStatusDto dto = buildTestStatus();
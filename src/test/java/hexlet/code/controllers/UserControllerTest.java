@@ -1,8 +1,10 @@
 package hexlet.code.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.dto.AuthRequest;
 import hexlet.code.dto.UserDto;
 import hexlet.code.mapper.UserMapper;
+import hexlet.code.model.User;
 import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.TaskStatusRepository;
 import hexlet.code.repository.UserRepository;
@@ -13,6 +15,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors
         .JwtRequestPostProcessor;
 import org.springframework.test.web.servlet.MockMvc;
@@ -25,6 +29,7 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -154,6 +159,93 @@ class UserControllerTest {
         assertThat(updatedUser.getEmail()).isEqualTo("updated@example.com");
     }
 
+    @Test
+    void testUpdateUserWithIssuedToken() throws Exception {
+        var dto = buildTestUser();
+        var createResponse = mockMvc.perform(post("/api/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        var created = objectMapper.readValue(createResponse.getResponse().getContentAsString(), UserDto.class);
+
+        var other = buildTestUser();
+        other.setEmail("other@simple.com");
+        var otherResponse = mockMvc.perform(post("/api/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(other)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        var otherCreated = objectMapper.readValue(otherResponse.getResponse().getContentAsString(), UserDto.class);
+
+        var login = new AuthRequest();
+        login.setUsername(dto.getEmail());
+        login.setPassword(dto.getPassword());
+        var loginResponse = login(login);
+        assertThat(loginResponse.getStatus()).isEqualTo(200);
+        var issuedToken = loginResponse.getContentAsString();
+
+        var update = new UserDto();
+        update.setFirstName("Jack");
+        mockMvc.perform(put("/api/users/" + created.getId())
+                        .header("Authorization", "Bearer " + issuedToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(put("/api/users/" + otherCreated.getId())
+                        .header("Authorization", "Bearer " + issuedToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void testLoginRehashesLegacyPassword() throws Exception {
+        var user = new User();
+        user.setEmail("legacy@simple.com");
+        user.setFirstName("Old");
+        user.setLastName("Hash");
+        user.setPassword(new BCryptPasswordEncoder(4).encode("secret123"));
+        userRepository.save(user);
+
+        var login = new AuthRequest();
+        login.setUsername(user.getEmail());
+        login.setPassword("secret123");
+        assertThat(login(login).getStatus()).isEqualTo(200);
+
+        var stored = userRepository.findByEmail(user.getEmail()).orElseThrow().getPassword();
+        assertThat(stored).startsWith("{bcrypt}$2a$10$");
+
+        assertThat(login(login).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void testLoginRateLimitedPerUsername() throws Exception {
+        var login = new AuthRequest();
+        login.setUsername("nobody@simple.com");
+        login.setPassword("wrong");
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(login(login).getStatus()).isEqualTo(401);
+        }
+
+        var limited = login(login);
+        assertThat(limited.getStatus()).isEqualTo(429);
+        assertThat(limited.getHeader("Retry-After")).isNotNull();
+    }
+
+    private MockHttpServletResponse login(AuthRequest login) throws Exception {
+        var result = mockMvc.perform(post("/api/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(login)))
+                .andReturn();
+        if (!result.getRequest().isAsyncStarted()) {
+            return result.getResponse();
+        }
+        return mockMvc.perform(asyncDispatch(result)).andReturn().getResponse();
+    }
+
     @Test
     void testDeleteUserWithoutTasks() throws Exception {
         var dto = buildTestUser();
@@ -0,0 +1,52 @@
+package hexlet.code.controllers;
+
+import hexlet.code.security.LoginExecutor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+@AutoConfigureMockMvc
+class VirtualThreadsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor taskExecutor;
+
+    @Autowired
+    private LoginExecutor loginExecutor;
+
+    @Test
+    void testTaskExecutorUsesVirtualThreads() throws Exception {
+        assertThat(taskExecutor.submit(() -> Thread.currentThread().isVirtual()).get()).isTrue();
+    }
+
+    @Test
+    void testLoginExecutorKeepsPlatformThreads() throws Exception {
+        assertThat(loginExecutor.submit(() -> Thread.currentThread().isVirtual()).get()).isFalse();
+    }
+
+    @Test
+    void testStreamingRunsOnTaskExecutor() throws Exception {
+        var result = mockMvc.perform(get("/api/tasks").param("stream", "true").with(jwt()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+    }
+}
@@ -1,6 +1,7 @@
 package hexlet.code.util;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.util.QueryCounter.Scope;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -46,4 +47,32 @@ public class TestUtils {
     public <T> T parseObjectResponse(String json, Class<T> clazz) throws Exception {
         return objectMapper.readValue(json, clazz);
     }
+
+    /**
+     * Counts the SQL statements executed by an action, e.g. a MockMvc request.
+     * Use it to pin the query count of an endpoint so that N+1 regressions fail the test.
+     *
+     * @param action the action to measure
+     * @return number of executed statements
+     * @throws Exception if the action fails
+     */
+    public int countQueries(Action action) throws Exception {
+        try (Scope queries = QueryCounter.start()) {
+            action.run();
+            return queries.count();
+        }
+    }
+
+    /**
+     * Action measured by {@link #countQueries(Action)}.
+     */
+    @FunctionalInterface
+    public interface Action {
+        /**
+         * Runs the action.
+         *
+         * @throws Exception if the action fails
+         */
+        void run() throws Exception;
+    }
 }